@@ -0,0 +1,130 @@
+package gregtech.api.recipes;
+
+import gregtech.Bootstrap;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import gregtech.api.recipes.ingredients.nbtmatch.NBTCondition;
+import gregtech.api.recipes.ingredients.nbtmatch.NBTMatcher;
+import gregtech.api.recipes.map.RecipeLookupContext;
+import gregtech.api.unification.material.Materials;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks recipe lookups on a large synthetic {@link RecipeMap}.
+ * <p>
+ * Every recipe takes one unique item, one shared catalyst item and one fluid.
+ * Depending on {@link #inputType}, the unique item is matched by stack, by ore dictionary, or by stack with an NBT matcher.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeMapBenchmark {
+
+    private static final int QUERIES = 256;
+
+    @Param({"1000", "10000"})
+    public int recipeCount;
+
+    @Param({"ITEM", "ORE_DICT", "NBT"})
+    public String inputType;
+
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    private RecipeMap<SimpleRecipeBuilder> map;
+    private final RecipeLookupContext context = new RecipeLookupContext();
+
+    private List<List<ItemStack>> hitItems;
+    private List<ItemStack> missItems;
+    private List<FluidStack> fluids;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+        map = new RecipeMap<>("benchmark", 0, 2, 0, 1, 0, 1, 0, 0, new SimpleRecipeBuilder(), false);
+
+        Item item = Item.getItemFromBlock(Blocks.STONE);
+        ItemStack catalyst = new ItemStack(Blocks.COBBLESTONE);
+        for (int i = 0; i < recipeCount; i++) {
+            SimpleRecipeBuilder builder = map.recipeBuilder();
+            switch (inputType) {
+                case "ORE_DICT":
+                    String ore = "benchmarkOre" + i;
+                    if (!OreDictionary.doesOreNameExist(ore)) {
+                        OreDictionary.registerOre(ore, new ItemStack(item, 1, i));
+                    }
+                    builder.input(ore);
+                    break;
+                case "NBT":
+                    builder.inputNBT(item, 1, i, NBTMatcher.ANY, NBTCondition.ANY);
+                    break;
+                default:
+                    builder.input(item, 1, i);
+            }
+            builder.notConsumable(catalyst)
+                    .fluidInputs(Materials.Water.getFluid(100))
+                    .outputs(new ItemStack(Blocks.GRAVEL))
+                    .EUt(30).duration(100)
+                    .buildAndRegister();
+        }
+        if (frozen) {
+            map.freeze();
+        }
+
+        hitItems = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            hitItems.add(Arrays.asList(createStack(item, (int) ((long) i * recipeCount / QUERIES)), catalyst.copy()));
+        }
+        missItems = Arrays.asList(createStack(item, recipeCount), catalyst.copy());
+        fluids = Arrays.asList(Materials.Water.getFluid(16000));
+    }
+
+    private ItemStack createStack(Item item, int meta) {
+        ItemStack stack = new ItemStack(item, 64, meta);
+        if ("NBT".equals(inputType)) {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setInteger("benchmark", meta);
+            stack.setTagCompound(tag);
+        }
+        return stack;
+    }
+
+    private List<ItemStack> nextHit() {
+        query = (query + 1) % QUERIES;
+        return hitItems.get(query);
+    }
+
+    @Benchmark
+    public Recipe findHit() {
+        return map.findRecipe(Long.MAX_VALUE, nextHit(), fluids, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Recipe findHitWithContext() {
+        return map.findRecipe(Long.MAX_VALUE, nextHit(), fluids, Integer.MAX_VALUE, false, context);
+    }
+
+    @Benchmark
+    public Recipe findMiss() {
+        return map.findRecipe(Long.MAX_VALUE, missItems, fluids, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Recipe findMissWithContext() {
+        return map.findRecipe(Long.MAX_VALUE, missItems, fluids, Integer.MAX_VALUE, false, context);
+    }
+}
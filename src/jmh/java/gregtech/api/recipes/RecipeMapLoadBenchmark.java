@@ -0,0 +1,81 @@
+package gregtech.api.recipes;
+
+import gregtech.Bootstrap;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import gregtech.api.unification.material.Materials;
+import gregtech.api.util.ValidationResult;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks bulk registration and removal of recipes, as done during post-init and script reloads.
+ * <p>
+ * Scores are per recipe.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeMapLoadBenchmark {
+
+    // must match the operations per invocation below
+    private static final int RECIPE_COUNT = 10000;
+
+    private final List<ValidationResult<Recipe>> results = new ArrayList<>();
+    private final List<Recipe> recipes = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+        RecipeMap<SimpleRecipeBuilder> map = createMap();
+
+        Item item = Item.getItemFromBlock(Blocks.STONE);
+        ItemStack catalyst = new ItemStack(Blocks.COBBLESTONE);
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            ValidationResult<Recipe> result = map.recipeBuilder()
+                    .input(item, 1, i)
+                    .notConsumable(catalyst)
+                    .fluidInputs(Materials.Water.getFluid(100))
+                    .outputs(new ItemStack(Blocks.GRAVEL))
+                    .EUt(30).duration(100)
+                    .build();
+            results.add(result);
+            recipes.add(result.getResult());
+        }
+    }
+
+    private static RecipeMap<SimpleRecipeBuilder> createMap() {
+        return new RecipeMap<>("benchmark_load", 0, 2, 0, 1, 0, 1, 0, 0, new SimpleRecipeBuilder(), false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10000)
+    public RecipeMap<?> addRecipes() {
+        RecipeMap<SimpleRecipeBuilder> map = createMap();
+        for (ValidationResult<Recipe> result : results) {
+            map.addRecipe(result);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(20000)
+    public RecipeMap<?> addAndRemoveRecipes() {
+        RecipeMap<SimpleRecipeBuilder> map = createMap();
+        for (Recipe recipe : recipes) {
+            map.compileRecipe(recipe);
+        }
+        for (Recipe recipe : recipes) {
+            map.removeRecipe(recipe);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,42 @@
+package gregtech.api.recipes.logic;
+
+import gregtech.api.GTValues;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static gregtech.api.recipes.logic.OverclockingLogic.*;
+
+/**
+ * Benchmarks the standard and heating coil overclocking calculations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverclockingBenchmark {
+
+    @Param({"1", "4", "8", "13"})
+    public int overclocks;
+
+    private final int recipeEUt = (int) GTValues.V[GTValues.LV];
+    private long maxVoltage;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        maxVoltage = GTValues.V[Math.min(GTValues.LV + overclocks, GTValues.MAX)];
+    }
+
+    @Benchmark
+    public int[] standardOverclocking() {
+        return standardOverclockingLogic(recipeEUt, maxVoltage, 1200, overclocks,
+                STANDARD_OVERCLOCK_DURATION_DIVISOR, STANDARD_OVERCLOCK_VOLTAGE_MULTIPLIER);
+    }
+
+    @Benchmark
+    public int[] heatingCoilOverclocking() {
+        return heatingCoilOverclockingLogic(recipeEUt, maxVoltage, 1200, overclocks, 9001, 1800);
+    }
+}
@@ -0,0 +1,103 @@
+package gregtech.api.recipes.logic;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.metatileentity.IVoidable;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeBuilder;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import gregtech.api.unification.material.Materials;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ParallelLogic#doParallelRecipes} and the recipe multiplication it ends with,
+ * for parallel limits from 1 to 256.
+ * Output merging is also measured on its own, with outputs that only fit partially.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelLogicBenchmark {
+
+    private static final IVoidable NO_VOIDING = new IVoidable() {
+
+        @Override
+        public boolean canVoidRecipeItemOutputs() {
+            return false;
+        }
+
+        @Override
+        public boolean canVoidRecipeFluidOutputs() {
+            return false;
+        }
+    };
+
+    @Param({"1", "4", "16", "64", "256"})
+    public int parallelLimit;
+
+    private RecipeMap<SimpleRecipeBuilder> map;
+    private Recipe recipe;
+
+    private ItemStackHandler importItems;
+    private ItemStackHandler exportItems;
+    private FluidTankList importFluids;
+    private FluidTankList exportFluids;
+    private ItemStackHandler partialExportItems;
+    private FluidTankList partialExportFluids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+        map = new RecipeMap<>("benchmark_parallel", 0, 2, 0, 2, 0, 1, 0, 1, new SimpleRecipeBuilder(), false);
+        recipe = map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .fluidInputs(Materials.Water.getFluid(100))
+                .outputs(new ItemStack(Blocks.GRAVEL), new ItemStack(Blocks.SAND))
+                .fluidOutputs(Materials.Steam.getFluid(100))
+                .EUt(30).duration(100)
+                .build().getResult();
+
+        // enough inputs and output space for every parallel limit, so the limit itself is measured
+        importItems = new ItemStackHandler(16);
+        for (int i = 0; i < importItems.getSlots(); i++) {
+            importItems.setStackInSlot(i, new ItemStack(Blocks.COBBLESTONE, 64));
+        }
+        exportItems = new ItemStackHandler(16);
+        importFluids = new FluidTankList(false, new FluidTank(Materials.Water.getFluid(64000), 64000));
+        exportFluids = new FluidTankList(false, new FluidTank(64000));
+
+        // outputs partially filled, so merging limits the parallel below the largest limits
+        partialExportItems = new ItemStackHandler(16);
+        for (int i = 0; i < partialExportItems.getSlots(); i += 2) {
+            partialExportItems.setStackInSlot(i, new ItemStack(i % 4 == 0 ? Blocks.GRAVEL : Blocks.SAND, 60));
+        }
+        partialExportFluids = new FluidTankList(false, new FluidTank(Materials.Steam.getFluid(50000), 64000), new FluidTank(8000));
+    }
+
+    @Benchmark
+    public RecipeBuilder<?> doParallelRecipes() {
+        return ParallelLogic.doParallelRecipes(recipe, map, importItems, importFluids, exportItems, exportFluids,
+                parallelLimit, GTValues.V[GTValues.MAX], NO_VOIDING);
+    }
+
+    @Benchmark
+    public int limitByOutputMerging() {
+        return ParallelLogic.limitByOutputMerging(recipe, partialExportItems, partialExportFluids, parallelLimit, false, false);
+    }
+
+    @Benchmark
+    public Recipe multiplyRecipe() {
+        return map.recipeBuilder().EUt(0).append(recipe, parallelLimit, false).build().getResult();
+    }
+}
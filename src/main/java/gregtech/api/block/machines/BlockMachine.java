@@ -363,6 +363,7 @@ public class BlockMachine extends BlockCustomParticle implements ITileEntityProv
     public void neighborChanged(@Nonnull IBlockState state, @Nonnull World worldIn, @Nonnull BlockPos pos, @Nonnull Block blockIn, @Nonnull BlockPos fromPos) {
         MetaTileEntity metaTileEntity = getMetaTileEntity(worldIn, pos);
         if (metaTileEntity != null) {
+            metaTileEntity.invalidateNeighborCache();
             metaTileEntity.updateInputRedstoneSignals();
             metaTileEntity.onNeighborChanged();
         }
@@ -29,4 +29,7 @@ public class GregtechTileCapabilities {
     @CapabilityInject(IMaintenance.class)
     public static Capability<IMaintenance> CAPABILITY_MAINTENANCE = null;
 
+    @CapabilityInject(IBulkItemStorage.class)
+    public static Capability<IBulkItemStorage> CAPABILITY_BULK_ITEM_STORAGE = null;
+
 }
@@ -0,0 +1,45 @@
+package gregtech.api.capability;
+
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nonnull;
+
+/**
+ * For storages holding a single item type in amounts beyond a single stack, like quantum chests.
+ * Allows moving any amount of items in one call, instead of a stack at a time through an IItemHandler.
+ */
+public interface IBulkItemStorage {
+
+    /**
+     * @return the stored item type with a count of 1, or an empty stack if nothing is stored
+     */
+    @Nonnull
+    ItemStack getStoredItem();
+
+    /**
+     * @return the amount of items stored
+     */
+    long getStoredAmount();
+
+    /**
+     * @return the maximum amount of items this storage can hold
+     */
+    long getMaxStoredAmount();
+
+    /**
+     * @param item     the item type to insert, its count is ignored
+     * @param amount   the amount of items to insert
+     * @param simulate if true, the storage is not changed
+     * @return the amount of items inserted
+     */
+    long insertItems(@Nonnull ItemStack item, long amount, boolean simulate);
+
+    /**
+     * Extracts items of the type returned by {@link #getStoredItem()}
+     *
+     * @param amount   the maximum amount of items to extract
+     * @param simulate if true, the storage is not changed
+     * @return the amount of items extracted
+     */
+    long extractItems(long amount, boolean simulate);
+}
@@ -11,6 +11,9 @@ import gregtech.api.metatileentity.multiblock.ParallelLogicType;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.logic.IParallelableRecipeLogic;
+import gregtech.api.recipes.logic.MultipliedRecipeCache;
+import gregtech.api.recipes.map.RecipeLookupCache;
+import gregtech.api.recipes.map.RecipeLookupContext;
 import gregtech.api.recipes.recipeproperties.CleanroomProperty;
 import gregtech.api.recipes.recipeproperties.IRecipePropertyStorage;
 import gregtech.api.util.GTTransferUtils;
@@ -25,7 +28,6 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fluids.FluidStack;
-import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import javax.annotation.Nonnull;
@@ -41,9 +43,29 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
     private static final String ALLOW_OVERCLOCKING = "AllowOverclocking";
     private static final String OVERCLOCK_VOLTAGE = "OverclockVoltage";
 
+    /**
+     * The amount of ticks a machine without enough energy to start a recipe sleeps before trying again
+     */
+    private static final int ENERGY_SLEEP_TICKS = 20;
+
 
     private final RecipeMap<?> recipeMap;
 
+    /**
+     * Scratch state reused by every recipe search of this logic
+     */
+    protected final RecipeLookupContext lookupContext = new RecipeLookupContext();
+
+    /**
+     * Remembers the last failed recipe search, so it is not repeated for unchanged inputs
+     */
+    protected final RecipeLookupCache lookupCache = new RecipeLookupCache();
+
+    /**
+     * Remembers the last parallel recipes built, so they are not rebuilt for every run of the same recipe
+     */
+    protected final MultipliedRecipeCache multipliedRecipeCache = new MultipliedRecipeCache();
+
     protected Recipe previousRecipe;
     private boolean allowOverclocking = true;
     protected int parallelRecipesPerformed;
@@ -64,6 +86,10 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
     protected boolean wasActiveAndNeedsUpdate;
     protected boolean isOutputsFull;
     protected boolean invalidInputsForRecipes;
+    protected boolean isWaitingForEnergy;
+
+    private boolean isSleeping;
+    private long wakeUpTime;
 
     protected boolean hasPerfectOC = false;
 
@@ -176,6 +202,11 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
     public void update() {
         World world = getMetaTileEntity().getWorld();
         if (world != null && !world.isRemote) {
+            if (isSleeping) {
+                if (getMetaTileEntity().getOffsetTimer() < wakeUpTime) return;
+                this.isSleeping = false;
+                this.canRecipeProgress = canProgressRecipe();
+            }
             if (workingEnabled) {
                 if (getMetaTileEntity().getOffsetTimer() % 20 == 0)
                     this.canRecipeProgress = canProgressRecipe();
@@ -185,6 +216,7 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
                 }
                 //check everything that would make a recipe never start here.
                 if (progressTime == 0 && shouldSearchForRecipes()) {
+                    this.isWaitingForEnergy = false;
                     trySearchNewRecipe();
                 }
             }
@@ -192,9 +224,59 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
                 this.wasActiveAndNeedsUpdate = false;
                 setActive(false);
             }
+            trySleep();
         }
     }
 
+    /**
+     * Puts the logic to sleep if it can not do anything until it is woken up.
+     * <p>
+     * A sleeping logic skips its updates until {@link #wakeUp()} is called, which happens when
+     * the notified inventories of the machine change, or when working is enabled.
+     * Energy changes are not notified, so a machine waiting for energy only sleeps for a short time.
+     */
+    private void trySleep() {
+        if (wasActiveAndNeedsUpdate || !canSleep()) return;
+        if (!workingEnabled || (progressTime == 0 && isWaitingForInventoryChange())) {
+            this.isSleeping = true;
+            this.wakeUpTime = Long.MAX_VALUE;
+        } else if (progressTime == 0 && isWaitingForEnergy) {
+            this.isSleeping = true;
+            this.wakeUpTime = getMetaTileEntity().getOffsetTimer() + ENERGY_SLEEP_TICKS;
+        }
+    }
+
+    /**
+     * Override to keep logic awake which depends on state that does not wake it up
+     *
+     * @return true if the logic is allowed to sleep while idle
+     */
+    protected boolean canSleep() {
+        return true;
+    }
+
+    /**
+     * @return true if no recipe can be started until the notified inventories of the machine change
+     */
+    protected boolean isWaitingForInventoryChange() {
+        if (hasNotifiedInputs()) return false;
+        return this.invalidInputsForRecipes || (this.isOutputsFull && !hasNotifiedOutputs());
+    }
+
+    /**
+     * Wakes the logic up, so it is updated again from the next tick on
+     */
+    public void wakeUp() {
+        this.isSleeping = false;
+    }
+
+    /**
+     * @return true if the logic is sleeping and skips its updates
+     */
+    public boolean isSleeping() {
+        return isSleeping;
+    }
+
     /**
      * DO NOT use the recipeMap field directly, EVER
      * <p>
@@ -353,7 +435,10 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
      * This can be performance intensive. Use sparingly.
      */
     public void forceRecipeRecheck() {
+        wakeUp();
         this.previousRecipe = null;
+        this.lookupCache.invalidate();
+        this.multipliedRecipeCache.invalidate();
         trySearchNewRecipe();
     }
 
@@ -483,8 +568,8 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
             return 0;
         }
         int result = Integer.MAX_VALUE;
-        for (IFluidTank fluidTank : tanks.getFluidTanks()) {
-            result = Math.min(fluidTank.getCapacity(), result);
+        for (int i = 0; i < tanks.getTanks(); i++) {
+            result = Math.min(tanks.getTankAt(i).getCapacity(), result);
         }
         return result;
     }
@@ -503,7 +588,36 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
             return null;
         }
 
-        return map.findRecipe(maxVoltage, inputs, fluidInputs, getMinTankCapacity(getOutputTank()));
+        // skip the search if the same inputs failed last time
+        lookupContext.setInputs(inputs, fluidInputs);
+        if (lookupCache.isKnownFailure(map, maxVoltage, lookupContext)) {
+            return null;
+        }
+
+        Recipe recipe = map.findRecipe(maxVoltage, lookupContext.getItemInputs(), lookupContext.getFluidInputs(),
+                getMinTankCapacity(getOutputTank()), false, lookupContext);
+        if (recipe == null) {
+            lookupCache.recordFailure(map, maxVoltage, lookupContext);
+        } else {
+            lookupCache.invalidate();
+        }
+        return recipe;
+    }
+
+    /**
+     * @return the cache of failed recipe searches of this logic
+     */
+    @Nonnull
+    public RecipeLookupCache getLookupCache() {
+        return lookupCache;
+    }
+
+    /**
+     * @return the cache of parallel recipes built by this logic
+     */
+    @Nonnull
+    public MultipliedRecipeCache getMultipliedRecipeCache() {
+        return multipliedRecipeCache;
     }
 
     /**
@@ -543,6 +657,7 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
         performNonOverclockBonuses(overclockResults);
 
         if (!hasEnoughPower(overclockResults)) {
+            this.isWaitingForEnergy = true;
             return false;
         }
 
@@ -837,6 +952,7 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
     @Override
     public void setWorkingEnabled(boolean workingEnabled) {
         this.workingEnabled = workingEnabled;
+        wakeUp();
         metaTileEntity.markDirty();
         World world = metaTileEntity.getWorld();
         if (world != null && !world.isRemote) {
@@ -67,7 +67,7 @@ public class BoilerRecipeLogic extends AbstractRecipeLogic {
         // can optimize with an override of checkPreviousRecipe() and a check here
 
         IMultipleTankHandler importFluids = boiler.getImportFluids();
-        List<ItemStack> dummyList = NonNullList.create();
+        List<ItemStack> dummyList = Collections.emptyList();
         boolean didStartRecipe = false;
 
         for (IFluidTank fluidTank : importFluids.getFluidTanks()) {
@@ -62,11 +62,15 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
         isOutputsFull = false;
         invalidInputsForRecipes = false;
         invalidatedInputList.clear();
+        lookupCache.invalidate();
+        multipliedRecipeCache.invalidate();
+        wakeUp();
         setActive(false); // this marks dirty for us
     }
 
     public void onDistinctChanged() {
         this.lastRecipeIndex = 0;
+        wakeUp();
     }
 
     public IEnergyContainer getEnergyContainer() {
@@ -139,6 +143,22 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
         return super.canWorkWithInputs();
     }
 
+    @Override
+    protected boolean isWaitingForInventoryChange() {
+        MultiblockWithDisplayBase controller = (MultiblockWithDisplayBase) metaTileEntity;
+        if (controller instanceof RecipeMapMultiblockController) {
+            RecipeMapMultiblockController distinctController = (RecipeMapMultiblockController) controller;
+
+            if (distinctController.canBeDistinct() && distinctController.isDistinct()) {
+                // distinct buses are invalidated one by one, see canWorkWithInputs()
+                if (hasNotifiedInputs()) return false;
+                if (this.isOutputsFull && !hasNotifiedOutputs()) return true;
+                return !invalidatedInputList.isEmpty() && invalidatedInputList.containsAll(getInputBuses());
+            }
+        }
+        return super.isWaitingForInventoryChange();
+    }
+
     @Override
     protected void trySearchNewRecipe() {
         // do not run recipes when there are more than 5 maintenance problems
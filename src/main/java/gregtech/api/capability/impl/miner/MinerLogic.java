@@ -16,6 +16,7 @@ import gregtech.api.util.GTUtility;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.common.ConfigHolder;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -27,11 +28,12 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -51,7 +53,10 @@ public class MinerLogic {
 
     private final ICubeRenderer PIPE_TEXTURE;
 
-    private final LinkedList<BlockPos> blocksToMine = new LinkedList<>();
+    /**
+     * The positions of the ores to mine, packed with {@link BlockPos#toLong()}
+     */
+    private final LongArrayFIFOQueue blocksToMine = new LongArrayFIFOQueue();
 
     private final AtomicInteger x = new AtomicInteger(Integer.MAX_VALUE);
     private final AtomicInteger y = new AtomicInteger(Integer.MAX_VALUE);
@@ -161,22 +166,24 @@ public class MinerLogic {
         // if there are blocks to mine and the correct amount of time has passed, do the mining
         if (metaTileEntity.getOffsetTimer() % this.speed == 0 && !blocksToMine.isEmpty()) {
             NonNullList<ItemStack> blockDrops = NonNullList.create();
-            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
 
             // check to make sure the ore is still there,
-            while(!GTUtility.isOre(GTUtility.toItem(blockState))) {
-                blocksToMine.removeFirst();
+            while(!OreStateLookup.isMineableOre(blockState)) {
+                blocksToMine.dequeueLong();
                 if (blocksToMine.isEmpty()) break;
-                blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+                blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+                blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
             }
             // When we are here we have an ore to mine! I'm glad we aren't threaded
-            if (!blocksToMine.isEmpty() & GTUtility.isOre(GTUtility.toItem(blockState))) {
+            if (!blocksToMine.isEmpty()) {
                 // get the small ore drops, if a small ore
-                getSmallOreBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getSmallOreBlockDrops(blockDrops, world, blockToMine, blockState);
                 // get the block's drops.
-                getRegularBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getRegularBlockDrops(blockDrops, world, blockToMine, blockState);
                 // try to insert them
-                mineAndInsertItems(blockDrops, world);
+                mineAndInsertItems(blockDrops, world, blockToMine);
             }
 
         }
@@ -188,7 +195,7 @@ public class MinerLogic {
             z.set(mineZ.get());
 
             // attempt to get more blocks to mine, if there are none, the miner is done mining
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
             if (blocksToMine.isEmpty()) {
                 this.isDone = true;
                 this.wasActiveAndNeedsUpdate = true;
@@ -266,18 +273,19 @@ public class MinerLogic {
      *
      * @param blockDrops the List of items to insert
      * @param world the {@link WorldServer} the miner is in
+     * @param blockToMine the {@link BlockPos} of the block being mined, which is the first in the mining queue
      */
-    private void mineAndInsertItems(NonNullList<ItemStack> blockDrops, WorldServer world) {
+    private void mineAndInsertItems(NonNullList<ItemStack> blockDrops, WorldServer world, BlockPos blockToMine) {
         // If the block's drops can fit in the inventory, move the previously mined position to the block
         // replace the ore block with cobblestone instead of breaking it to prevent mob spawning
         // remove the ore block's position from the mining queue
         if (GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), true, blockDrops)) {
             GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), false, blockDrops);
-            world.setBlockState(blocksToMine.getFirst(), oreReplacementBlock);
-            mineX.set(blocksToMine.getFirst().getX());
-            mineZ.set(blocksToMine.getFirst().getZ());
-            mineY.set(blocksToMine.getFirst().getY());
-            blocksToMine.removeFirst();
+            world.setBlockState(blockToMine, oreReplacementBlock);
+            mineX.set(blockToMine.getX());
+            mineZ.set(blockToMine.getZ());
+            mineY.set(blockToMine.getY());
+            blocksToMine.dequeueLong();
             onMineOperation();
 
             // if the inventory was previously considered full, mark it as not since an item was able to fit
@@ -324,7 +332,7 @@ public class MinerLogic {
      */
     public void checkBlocksToMine() {
         if (blocksToMine.isEmpty())
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
     }
 
     /**
@@ -337,16 +345,22 @@ public class MinerLogic {
     }
 
     /**
-     * Gets the blocks to mine
-     * @return a {@link LinkedList} of {@link BlockPos} for each ore to mine
+     * Finds the next blocks to mine and adds them to the mining queue.
+     * <p>
+     * Block states are read from the chunk sections directly and checked with {@link OreStateLookup},
+     * so checking a block which is not an ore needs no world or ore dictionary lookups.
+     * Rows through sections which only contain air are skipped at once.
      */
-    private LinkedList<BlockPos> getBlocksToMine() {
-        LinkedList<BlockPos> blocks = new LinkedList<>();
+    private void findBlocksToMine() {
+        WorldServer world = (WorldServer) metaTileEntity.getWorld();
 
         // determine how many blocks to retrieve this time
-        double quotient = getQuotient(GTUtility.getMeanTickTime(metaTileEntity.getWorld()));
+        double quotient = getQuotient(GTUtility.getMeanTickTime(world));
         int calcAmount = quotient < 1 ? 1 : (int) (Math.min(quotient, Short.MAX_VALUE));
         int calculated = 0;
+        boolean foundBlocks = false;
+        Chunk chunk = null;
+        BlockPos.MutableBlockPos blockPos = new BlockPos.MutableBlockPos();
 
         // keep getting blocks until the target amount is reached
         while (calculated < calcAmount) {
@@ -355,14 +369,28 @@ public class MinerLogic {
                 // moving across the z-axis
                 if (z.get() <= startZ.get() + currentRadius * 2) {
                     // check every block along the x-axis
-                    if (x.get() <= startX.get() + currentRadius * 2) {
-                        BlockPos blockPos = new BlockPos(x.get(), y.get(), z.get());
-                        IBlockState state = metaTileEntity.getWorld().getBlockState(blockPos);
-                        if (state.getBlock().blockHardness >= 0 && metaTileEntity.getWorld().getTileEntity(blockPos) == null && GTUtility.isOre(GTUtility.toItem(state))) {
-                            blocks.addLast(blockPos);
+                    int endX = startX.get() + currentRadius * 2;
+                    if (x.get() <= endX) {
+                        int currentX = x.get();
+                        if (chunk == null || chunk.x != currentX >> 4 || chunk.z != z.get() >> 4) {
+                            chunk = world.getChunk(currentX >> 4, z.get() >> 4);
+                        }
+                        ExtendedBlockStorage section = chunk.getBlockStorageArray()[y.get() >> 4];
+                        if (section == Chunk.NULL_BLOCK_STORAGE || section.isEmpty()) {
+                            // nothing but air in this section, move to the first x position of the next chunk
+                            x.set(Math.min(((currentX >> 4) + 1) << 4, endX + 1));
+                        } else {
+                            IBlockState state = section.get(currentX & 15, y.get() & 15, z.get() & 15);
+                            if (OreStateLookup.isMineableOre(state)) {
+                                blockPos.setPos(currentX, y.get(), z.get());
+                                if (chunk.getTileEntity(blockPos, Chunk.EnumCreateEntityType.CHECK) == null) {
+                                    blocksToMine.enqueue(blockPos.toLong());
+                                    foundBlocks = true;
+                                }
+                            }
+                            // move to the next x position
+                            x.incrementAndGet();
                         }
-                        // move to the next x position
-                        x.incrementAndGet();
                     } else {
                         // reset x and move to the next z layer
                         x.set(startX.get());
@@ -374,13 +402,12 @@ public class MinerLogic {
                     y.decrementAndGet();
                 }
             } else
-                return blocks;
+                return;
 
             // only count iterations where blocks were found
-            if (!blocks.isEmpty())
+            if (foundBlocks)
                 calculated++;
         }
-        return blocks;
     }
 
     /**
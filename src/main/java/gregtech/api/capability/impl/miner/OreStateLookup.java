@@ -0,0 +1,37 @@
+package gregtech.api.capability.impl.miner;
+
+import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Caches which block states can be mined as ores by miners.
+ * <p>
+ * Block states are interned, so they are looked up by identity. Checking a state the first time
+ * creates an ItemStack and looks up its ore prefix, afterwards it is a single hash lookup.
+ */
+public final class OreStateLookup {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte NOT_ORE = 1;
+    private static final byte ORE = 2;
+
+    private static final Reference2ByteOpenHashMap<IBlockState> oreStates = new Reference2ByteOpenHashMap<>();
+
+    private OreStateLookup() {/**/}
+
+    /**
+     * @return true if the state is an ore which can be mined
+     */
+    public static boolean isMineableOre(@Nonnull IBlockState state) {
+        byte result = oreStates.getByte(state);
+        if (result == UNKNOWN) {
+            boolean isOre = state.getBlock().blockHardness >= 0 && GTUtility.isOre(GTUtility.toItem(state));
+            result = isOre ? ORE : NOT_ORE;
+            oreStates.put(state, result);
+        }
+        return result == ORE;
+    }
+}
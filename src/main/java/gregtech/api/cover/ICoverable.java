@@ -14,6 +14,7 @@ import gregtech.client.utils.RenderUtil;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -24,6 +25,7 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -68,6 +70,14 @@ public interface ICoverable {
 
     void scheduleRenderUpdate();
 
+    /**
+     * @return the tile entity next to this coverable at the given side, or null if there is none
+     */
+    @Nullable
+    default TileEntity getNeighbor(EnumFacing side) {
+        return getWorld().getTileEntity(getPos().offset(side));
+    }
+
     default boolean hasAnyCover() {
         for(EnumFacing facing : EnumFacing.VALUES)
             if(getCoverAtSide(facing) != null)
@@ -5,6 +5,7 @@ import gregtech.api.gui.widgets.WidgetUIAccess;
 import gregtech.api.util.Position;
 import gregtech.api.util.Size;
 import gregtech.client.utils.TooltipHelper;
+import gregtech.common.ConfigHolder;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.PositionedSoundRecord;
 import net.minecraft.client.gui.FontRenderer;
@@ -37,6 +38,11 @@ import java.util.function.Consumer;
  */
 public abstract class Widget {
 
+    /**
+     * The amount of updates after which widgets sending deltas send their full state again
+     */
+    protected static final int FULL_UPDATE_INTERVAL = 20;
+
     protected transient ModularUI gui;
     protected transient ISizeProvider sizes;
     protected transient WidgetUIAccess uiAccess;
@@ -46,6 +52,8 @@ public abstract class Widget {
     private transient Size size;
     private transient boolean isVisible;
     private transient boolean isActive;
+    private transient int lowFrequencySyncTimer;
+    private transient int deltaUpdateCount;
 
     public Widget(Position selfPosition, Size size) {
         Preconditions.checkNotNull(selfPosition, "selfPosition");
@@ -164,6 +172,40 @@ public abstract class Widget {
     public void detectAndSendChanges() {
     }
 
+    /**
+     * Widgets which do not need to be updated every tick, like text displays, can check this
+     * in {@link #detectAndSendChanges()} to only detect changes every few ticks.
+     * The first check always returns true, so the initial state is synced immediately.
+     *
+     * @return true if changes should be detected this tick
+     */
+    protected boolean isLowFrequencySyncTick() {
+        if (lowFrequencySyncTimer > 0) {
+            lowFrequencySyncTimer--;
+            return false;
+        }
+        this.lowFrequencySyncTimer = ConfigHolder.misc.lowFrequencyWidgetSyncInterval - 1;
+        return true;
+    }
+
+    /**
+     * Widgets which send updates relative to their previous update must check this first, and send their full state if
+     * it returns false. Deltas can only be sent through UIs which deliver every update in order, and every
+     * {@link #FULL_UPDATE_INTERVAL} updates the full state is sent anyway, so clients can not drift from the server.
+     *
+     * @return true if the next update can be relative to the previous one
+     */
+    protected boolean canSendDeltaUpdate() {
+        if (uiAccess == null || !uiAccess.isReliableUpdateDelivery()) {
+            return false;
+        }
+        if (++deltaUpdateCount >= FULL_UPDATE_INTERVAL) {
+            this.deltaUpdateCount = 0;
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Called clientside every tick with this modular UI open
      */
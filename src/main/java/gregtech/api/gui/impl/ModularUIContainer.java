@@ -8,7 +8,9 @@ import gregtech.api.gui.widgets.SlotWidget;
 import gregtech.api.gui.widgets.WidgetUIAccess;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.PerTickIntCounter;
+import gregtech.common.ConfigHolder;
 import gregtech.core.network.packets.PacketUIClientAction;
+import gregtech.core.network.packets.PacketUIWidgetBatchUpdate;
 import gregtech.core.network.packets.PacketUIWidgetUpdate;
 import io.netty.buffer.Unpooled;
 import net.minecraft.client.entity.EntityPlayerSP;
@@ -32,6 +34,12 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public boolean accumulateWidgetUpdateData = false;
     public final List<PacketUIWidgetUpdate> accumulatedUpdates = new ArrayList<>();
 
+    /**
+     * Widget updates collected during a tick, sent together at the end of {@link #detectAndSendChanges()}
+     */
+    private PacketBuffer batchedUpdates;
+    private PacketBuffer updateBuffer;
+
     public ModularUIContainer(ModularUI modularUI) {
         this.modularUI = modularUI;
         modularUI.guiWidgets.values().forEach(widget -> widget.setUiAccess(this));
@@ -136,6 +144,15 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
         if (listeners.size() > 0) {
             modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
         }
+        sendBatchedUpdates();
+    }
+
+    private void sendBatchedUpdates() {
+        if (batchedUpdates != null && batchedUpdates.isReadable() && modularUI.entityPlayer instanceof EntityPlayerMP) {
+            // packets are encoded when sent, so the buffer can be reused right after
+            GregTechAPI.networkHandler.sendTo(new PacketUIWidgetBatchUpdate(windowId, batchedUpdates), (EntityPlayerMP) modularUI.entityPlayer);
+            batchedUpdates.clear();
+        }
     }
 
     @Nonnull
@@ -250,9 +267,29 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
         }
     }
 
+    @Override
+    public boolean isReliableUpdateDelivery() {
+        return true;
+    }
+
     @Override
     public void writeUpdateInfo(Widget widget, int updateId, Consumer<PacketBuffer> payloadWriter) {
         int widgetId = modularUI.guiWidgets.inverse().get(widget);
+        if (!accumulateWidgetUpdateData && ConfigHolder.misc.batchWidgetUpdates) {
+            if (modularUI.entityPlayer instanceof EntityPlayerMP) {
+                if (batchedUpdates == null) {
+                    this.batchedUpdates = new PacketBuffer(Unpooled.buffer());
+                    this.updateBuffer = new PacketBuffer(Unpooled.buffer());
+                }
+                updateBuffer.clear();
+                updateBuffer.writeVarInt(updateId);
+                payloadWriter.accept(updateBuffer);
+                batchedUpdates.writeVarInt(widgetId);
+                batchedUpdates.writeVarInt(updateBuffer.readableBytes());
+                batchedUpdates.writeBytes(updateBuffer);
+            }
+            return;
+        }
         PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
         packetBuffer.writeVarInt(updateId);
         payloadWriter.accept(packetBuffer);
@@ -4,6 +4,7 @@ import gregtech.api.gui.IRenderContext;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.Widget;
 import gregtech.api.gui.widgets.SlotWidget;
+import gregtech.core.network.packets.PacketUIWidgetBatchUpdate;
 import gregtech.core.network.packets.PacketUIWidgetUpdate;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.inventory.GuiContainer;
@@ -13,6 +14,7 @@ import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.client.event.GuiContainerEvent;
 import net.minecraftforge.common.MinecraftForge;
@@ -74,6 +76,20 @@ public class ModularUIGui extends GuiContainer implements IRenderContext {
         }
     }
 
+    public void handleWidgetBatchUpdate(PacketUIWidgetBatchUpdate packet) {
+        if (packet.windowId == inventorySlots.windowId) {
+            PacketBuffer updateData = packet.updateData;
+            while (updateData.isReadable()) {
+                Widget widget = modularUI.guiWidgets.get(updateData.readVarInt());
+                PacketBuffer widgetData = new PacketBuffer(updateData.readSlice(updateData.readVarInt()));
+                int updateId = widgetData.readVarInt();
+                if (widget != null) {
+                    widget.readUpdateInfo(updateId, widgetData);
+                }
+            }
+        }
+    }
+
     @Override
     public void drawScreen(int mouseX, int mouseY, float partialTicks) {
         lastUpdate += partialTicks;
@@ -427,5 +427,10 @@ public class AbstractWidgetGroup extends Widget implements IGhostIngredientTarge
             });
         }
 
+        @Override
+        public boolean isReliableUpdateDelivery() {
+            WidgetUIAccess uiAccess = AbstractWidgetGroup.this.uiAccess;
+            return uiAccess != null && uiAccess.isReliableUpdateDelivery();
+        }
     }
 }
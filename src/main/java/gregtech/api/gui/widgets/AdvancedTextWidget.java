@@ -41,6 +41,10 @@ public class AdvancedTextWidget extends Widget {
     protected final Consumer<List<ITextComponent>> textSupplier;
     protected BiConsumer<String, ClickData> clickHandler;
     private List<ITextComponent> displayText = new ArrayList<>();
+    /**
+     * The lines as received from the server, before being split to the width limit
+     */
+    private final List<ITextComponent> receivedText = new ArrayList<>();
     private final int color;
 
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<ITextComponent>> text, int color) {
@@ -112,16 +116,36 @@ public class AdvancedTextWidget extends Widget {
 
     @Override
     public void detectAndSendChanges() {
+        if (!isLowFrequencySyncTick()) return;
         ArrayList<ITextComponent> textBuffer = new ArrayList<>();
         textSupplier.accept(textBuffer);
         if (!displayText.equals(textBuffer)) {
+            List<ITextComponent> previousText = this.displayText;
             this.displayText = textBuffer;
-            writeUpdateInfo(1, buffer -> {
-                buffer.writeVarInt(displayText.size());
-                for (ITextComponent textComponent : displayText) {
-                    buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
+            List<Integer> changedLines = new ArrayList<>();
+            for (int i = 0; i < textBuffer.size(); i++) {
+                if (i >= previousText.size() || !previousText.get(i).equals(textBuffer.get(i))) {
+                    changedLines.add(i);
                 }
-            });
+            }
+            if (previousText.isEmpty() || changedLines.size() * 2 > textBuffer.size() || !canSendDeltaUpdate()) {
+                writeUpdateInfo(1, buffer -> {
+                    buffer.writeVarInt(textBuffer.size());
+                    for (ITextComponent textComponent : textBuffer) {
+                        buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
+                    }
+                });
+            } else {
+                // most displays only change a few numbers, so only send the changed lines
+                writeUpdateInfo(2, buffer -> {
+                    buffer.writeVarInt(textBuffer.size());
+                    buffer.writeVarInt(changedLines.size());
+                    for (int line : changedLines) {
+                        buffer.writeVarInt(line);
+                        buffer.writeString(ITextComponent.Serializer.componentToJson(textBuffer.get(line)));
+                    }
+                });
+            }
         }
     }
 
@@ -159,6 +183,13 @@ public class AdvancedTextWidget extends Widget {
         }
     }
 
+    @SideOnly(Side.CLIENT)
+    private void updateDisplayText() {
+        this.displayText = new ArrayList<>(receivedText);
+        formatDisplayText();
+        updateComponentTextSize();
+    }
+
     @SideOnly(Side.CLIENT)
     private void formatDisplayText() {
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
@@ -171,14 +202,29 @@ public class AdvancedTextWidget extends Widget {
     @Override
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if (id == 1) {
-            this.displayText.clear();
+            this.receivedText.clear();
             int count = buffer.readVarInt();
             for (int i = 0; i < count; i++) {
                 String jsonText = buffer.readString(32767);
-                this.displayText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
+                this.receivedText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
             }
-            formatDisplayText();
-            updateComponentTextSize();
+            updateDisplayText();
+        } else if (id == 2) {
+            int size = buffer.readVarInt();
+            while (receivedText.size() > size) {
+                this.receivedText.remove(receivedText.size() - 1);
+            }
+            int count = buffer.readVarInt();
+            for (int i = 0; i < count; i++) {
+                int line = buffer.readVarInt();
+                ITextComponent textComponent = ITextComponent.Serializer.jsonToComponent(buffer.readString(32767));
+                if (line < receivedText.size()) {
+                    this.receivedText.set(line, textComponent);
+                } else {
+                    this.receivedText.add(textComponent);
+                }
+            }
+            updateDisplayText();
         }
     }
 
@@ -24,7 +24,13 @@ public class ProgressWidget extends Widget {
     private TextureArea emptyBarArea;
     private TextureArea[] filledBarArea;
 
+    /**
+     * Progress is synced as a fixed point delta with this many steps per full bar
+     */
+    private static final int PROGRESS_SCALE = 1 << 16;
+
     private double lastProgressValue;
+    private int lastSyncedProgress;
 
     // TODO Clean up these constructors when Steam Machine UIs are cleaned up
     public ProgressWidget(DoubleSupplier progressSupplier, int x, int y, int width, int height) {
@@ -143,7 +149,15 @@ public class ProgressWidget extends Widget {
         double actualValue = progressSupplier.getAsDouble();
         if (Math.abs(actualValue - lastProgressValue) > 0.005) {
             this.lastProgressValue = actualValue;
-            writeUpdateInfo(0, buffer -> buffer.writeDouble(actualValue));
+            int progress = (int) Math.round(actualValue * PROGRESS_SCALE);
+            int delta = progress - lastSyncedProgress;
+            this.lastSyncedProgress = progress;
+            if (canSendDeltaUpdate()) {
+                // zigzag encoded, so small decreases stay small var ints as well
+                writeUpdateInfo(1, buffer -> buffer.writeVarInt((delta << 1) ^ (delta >> 31)));
+            } else {
+                writeUpdateInfo(0, buffer -> buffer.writeDouble(actualValue));
+            }
         }
     }
 
@@ -151,6 +165,11 @@ public class ProgressWidget extends Widget {
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if (id == 0) {
             this.lastProgressValue = buffer.readDouble();
+            this.lastSyncedProgress = (int) Math.round(lastProgressValue * PROGRESS_SCALE);
+        } else if (id == 1) {
+            int delta = buffer.readVarInt();
+            this.lastSyncedProgress += (delta >>> 1) ^ -(delta & 1);
+            this.lastProgressValue = lastSyncedProgress / (double) PROGRESS_SCALE;
         }
     }
 
@@ -110,9 +110,32 @@ public class SimpleTextWidget extends Widget {
 
     @Override
     public void detectAndSendChanges() {
-        if (!textSupplier.get().equals(lastText)) {
-            this.lastText = textSupplier.get();
-            writeUpdateInfo(1, buffer -> buffer.writeString(lastText));
+        if (!isLowFrequencySyncTick()) return;
+        String text = textSupplier.get();
+        if (!text.equals(lastText)) {
+            String previousText = this.lastText;
+            this.lastText = text;
+            if (!canSendDeltaUpdate()) {
+                writeUpdateInfo(1, buffer -> buffer.writeString(text));
+                return;
+            }
+            // only send the part between the unchanged start and end of the text
+            int maxLength = Math.min(previousText.length(), text.length());
+            int prefix = 0;
+            while (prefix < maxLength && previousText.charAt(prefix) == text.charAt(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < maxLength - prefix && previousText.charAt(previousText.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+                suffix++;
+            }
+            int prefixLength = prefix;
+            int suffixLength = suffix;
+            writeUpdateInfo(2, buffer -> {
+                buffer.writeVarInt(prefixLength);
+                buffer.writeVarInt(suffixLength);
+                buffer.writeString(text.substring(prefixLength, text.length() - suffixLength));
+            });
         }
     }
 
@@ -121,6 +144,15 @@ public class SimpleTextWidget extends Widget {
         if (id == 1) {
             this.lastText = buffer.readString(Short.MAX_VALUE);
             updateSize();
+        } else if (id == 2) {
+            int prefixLength = buffer.readVarInt();
+            int suffixLength = buffer.readVarInt();
+            String changedText = buffer.readString(Short.MAX_VALUE);
+            // a delta which does not fit the text is dropped, the next full update corrects the text
+            if (prefixLength + suffixLength <= lastText.length()) {
+                this.lastText = lastText.substring(0, prefixLength) + changedText + lastText.substring(lastText.length() - suffixLength);
+                updateSize();
+            }
         }
     }
 }
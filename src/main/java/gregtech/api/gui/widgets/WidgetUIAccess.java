@@ -58,4 +58,14 @@ public interface WidgetUIAccess {
      */
     void writeUpdateInfo(Widget widget, int id, Consumer<PacketBuffer> payloadWriter);
 
+    /**
+     * Widgets may only send updates relative to their previous update if every viewer receives every update, in order.
+     * Fake UIs are broadcast to every player watching the chunk, and only keep the last update of each tick,
+     * so they can only receive the full state.
+     *
+     * @return true if every update written by {@link #writeUpdateInfo(Widget, int, Consumer)} reaches every viewer in order
+     */
+    default boolean isReliableUpdateDelivery() {
+        return false;
+    }
 }
@@ -0,0 +1,147 @@
+package gregtech.api.metatileentity;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+
+import java.util.function.Consumer;
+
+/**
+ * Collects the custom data of a {@link SyncedTileEntityBase} until it is sent to the clients.
+ * <p>
+ * All entries are written into a single buffer which is reused after sending, each entry made of
+ * the discriminator and the data length as var ints, followed by the data itself.
+ * Writing a discriminator again replaces its pending entry, as only the latest data matters to the client.
+ */
+public class CustomDataBuffer {
+
+    /**
+     * Buffers which grew larger than this while collecting data are not kept after sending
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+
+    private ByteBuf buffer;
+    private PacketBuffer packetBuffer;
+
+    public boolean isEmpty() {
+        return buffer == null || !buffer.isReadable();
+    }
+
+    /**
+     * Writes an entry, replacing any pending entry with the same discriminator
+     */
+    public void write(int discriminator, Consumer<PacketBuffer> dataWriter) {
+        if (buffer == null) {
+            this.buffer = Unpooled.buffer(32);
+            this.packetBuffer = new PacketBuffer(buffer);
+        } else {
+            remove(discriminator);
+        }
+        int entryStart = buffer.writerIndex();
+        try {
+            packetBuffer.writeVarInt(discriminator);
+            int dataStart = buffer.writerIndex();
+            dataWriter.accept(packetBuffer);
+            writeLengthBefore(dataStart, buffer.writerIndex() - dataStart);
+        } catch (RuntimeException e) {
+            buffer.writerIndex(entryStart);
+            throw e;
+        }
+    }
+
+    /**
+     * Copies all pending entries of another buffer into this buffer
+     */
+    public void addAll(CustomDataBuffer other) {
+        if (other.isEmpty()) return;
+        ByteBuf otherBuffer = other.buffer;
+        int index = 0;
+        while (index < otherBuffer.writerIndex()) {
+            int discriminator = getVarInt(otherBuffer, index);
+            index += PacketBuffer.getVarIntSize(discriminator);
+            int length = getVarInt(otherBuffer, index);
+            int dataStart = index + PacketBuffer.getVarIntSize(length);
+            write(discriminator, buf -> buf.writeBytes(otherBuffer, dataStart, length));
+            index = dataStart + length;
+        }
+    }
+
+    /**
+     * @return all pending entries, leaving this buffer empty
+     */
+    public byte[] poll() {
+        if (isEmpty()) return new byte[0];
+        byte[] data = new byte[buffer.readableBytes()];
+        buffer.readBytes(data);
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            this.buffer = null;
+            this.packetBuffer = null;
+        } else {
+            buffer.clear();
+        }
+        return data;
+    }
+
+    /**
+     * Reads the entries written by {@link #poll()}
+     *
+     * @param data   the polled data
+     * @param reader called with the discriminator and data of each entry
+     */
+    public static void readAll(byte[] data, EntryReader reader) {
+        PacketBuffer buf = new PacketBuffer(Unpooled.wrappedBuffer(data));
+        while (buf.isReadable()) {
+            int discriminator = buf.readVarInt();
+            int length = buf.readVarInt();
+            reader.read(discriminator, new PacketBuffer(buf.readSlice(length)));
+        }
+    }
+
+    private void remove(int discriminator) {
+        int index = 0;
+        while (index < buffer.writerIndex()) {
+            int entryStart = index;
+            int entryDiscriminator = getVarInt(buffer, index);
+            index += PacketBuffer.getVarIntSize(entryDiscriminator);
+            int length = getVarInt(buffer, index);
+            index += PacketBuffer.getVarIntSize(length) + length;
+            if (entryDiscriminator == discriminator) {
+                // a discriminator is never pending twice, so the search can stop here
+                buffer.setBytes(entryStart, buffer, index, buffer.writerIndex() - index);
+                buffer.writerIndex(buffer.writerIndex() - (index - entryStart));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Inserts the length of data already written to the buffer in front of it
+     */
+    private void writeLengthBefore(int dataStart, int length) {
+        int lengthSize = PacketBuffer.getVarIntSize(length);
+        buffer.ensureWritable(lengthSize);
+        // heap buffers copy with System.arraycopy, which handles the overlapping ranges
+        buffer.setBytes(dataStart + lengthSize, buffer, dataStart, length);
+        buffer.writerIndex(dataStart);
+        packetBuffer.writeVarInt(length);
+        buffer.writerIndex(dataStart + lengthSize + length);
+    }
+
+    private static int getVarInt(ByteBuf buf, int index) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.getByte(index++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @FunctionalInterface
+    public interface EntryReader {
+
+        void read(int discriminator, PacketBuffer buf);
+    }
+}
@@ -26,6 +26,7 @@ import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.BloomEffectUtil;
 import gregtech.common.ConfigHolder;
@@ -46,9 +47,9 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.PooledMutableBlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -70,6 +71,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -109,6 +111,8 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     protected boolean isFragile = false;
 
     private final CoverBehavior[] coverBehaviors = new CoverBehavior[6];
+    private final TileEntity[] neighborTileEntities = new TileEntity[6];
+    private final Chunk[] neighborChunks = new Chunk[6];
     protected List<IItemHandlerModifiable> notifiedItemOutputList = new ArrayList<>();
     protected List<IItemHandlerModifiable> notifiedItemInputList = new ArrayList<>();
     protected List<IFluidHandler> notifiedFluidInputList = new ArrayList<>();
@@ -334,6 +338,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
                 this.notifiedFluidInputList.add((FluidTank) input);
             }
         }
+        wakeUpRecipeLogic();
     }
 
     public <T> void addNotifiedOutput(T output) {
@@ -346,6 +351,19 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
                 this.notifiedFluidOutputList.add((NotifiableFluidTank) output);
             }
         }
+        wakeUpRecipeLogic();
+    }
+
+    /**
+     * Wakes up all sleeping recipe logic of this meta tile entity
+     */
+    protected void wakeUpRecipeLogic() {
+        for (int i = 0; i < mteTraits.size(); i++) {
+            MTETrait mteTrait = mteTraits.get(i);
+            if (mteTrait instanceof AbstractRecipeLogic) {
+                ((AbstractRecipeLogic) mteTrait).wakeUp();
+            }
+        }
     }
 
     /**
@@ -686,6 +704,41 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public void onNeighborChanged() {
     }
 
+    /**
+     * Returns the tile entity next to this meta tile entity. The result is cached per side
+     * until a neighbour block changes, the cached tile entity is invalidated or the chunk it is in unloads.
+     *
+     * @return the neighbouring tile entity, or null if there is none or its chunk is not loaded
+     */
+    @Nullable
+    @Override
+    public TileEntity getNeighbor(EnumFacing side) {
+        int index = side.getIndex();
+        Chunk chunk = neighborChunks[index];
+        TileEntity tileEntity = neighborTileEntities[index];
+        if (chunk != null && chunk.isLoaded() && (tileEntity == null || !tileEntity.isInvalid())) {
+            return tileEntity;
+        }
+        BlockPos neighborPos = getPos().offset(side);
+        if (!getWorld().isBlockLoaded(neighborPos)) {
+            this.neighborChunks[index] = null;
+            this.neighborTileEntities[index] = null;
+            return null;
+        }
+        tileEntity = getWorld().getTileEntity(neighborPos);
+        this.neighborChunks[index] = getWorld().getChunk(neighborPos);
+        this.neighborTileEntities[index] = tileEntity;
+        return tileEntity;
+    }
+
+    /**
+     * Drops all neighbours cached by {@link #getNeighbor(EnumFacing)}
+     */
+    public void invalidateNeighborCache() {
+        Arrays.fill(neighborChunks, null);
+        Arrays.fill(neighborTileEntities, null);
+    }
+
     public void updateInputRedstoneSignals() {
         for (EnumFacing side : EnumFacing.VALUES) {
             int redstoneValue = GTUtility.getRedstonePower(getWorld(), getPos(), side);
@@ -737,17 +790,24 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     public void update() {
-        for (MTETrait mteTrait : this.mteTraits) {
-            if (shouldUpdate(mteTrait)) {
-                mteTrait.update();
+        World world = getWorld();
+        if (TickProfiler.isSampling(world)) {
+            updateProfiled(world);
+        } else {
+            for (MTETrait mteTrait : this.mteTraits) {
+                if (shouldUpdate(mteTrait)) {
+                    mteTrait.update();
+                }
             }
-        }
-        if (!getWorld().isRemote) {
-            for (CoverBehavior coverBehavior : coverBehaviors) {
-                if (coverBehavior instanceof ITickable) {
-                    ((ITickable) coverBehavior).update();
+            if (!world.isRemote) {
+                for (CoverBehavior coverBehavior : coverBehaviors) {
+                    if (coverBehavior instanceof ITickable) {
+                        ((ITickable) coverBehavior).update();
+                    }
                 }
             }
+        }
+        if (!world.isRemote) {
             if (getOffsetTimer() % 5 == 0L) {
                 updateComparatorValue();
             }
@@ -763,6 +823,27 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
         return true;
     }
 
+    /**
+     * Updates traits and covers like {@link #update()}, recording the time spent in each of them
+     */
+    private void updateProfiled(World world) {
+        BlockPos pos = getPos();
+        for (MTETrait mteTrait : this.mteTraits) {
+            if (shouldUpdate(mteTrait)) {
+                long startTime = System.nanoTime();
+                mteTrait.update();
+                TickProfiler.record(world, pos, TickProfiler.TRAIT, mteTrait.getName(), System.nanoTime() - startTime);
+            }
+        }
+        for (CoverBehavior coverBehavior : coverBehaviors) {
+            if (coverBehavior instanceof ITickable) {
+                long startTime = System.nanoTime();
+                ((ITickable) coverBehavior).update();
+                TickProfiler.record(world, pos, TickProfiler.COVER, coverBehavior.getClass(), System.nanoTime() - startTime);
+            }
+        }
+    }
+
     @SideOnly(Side.CLIENT)
     private void updateSound() {
         if (!ConfigHolder.machines.machineSounds || isMuffled()) {
@@ -989,6 +1070,10 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public final <T> T getCoverCapability(Capability<T> capability, EnumFacing side) {
         boolean isCoverable = capability == GregtechTileCapabilities.CAPABILITY_COVERABLE;
         CoverBehavior coverBehavior = side == null ? null : getCoverAtSide(side);
+        if (coverBehavior != null && capability == GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE) {
+            // covers only wrap the item handler, bulk transfer would bypass their filters and limits
+            return null;
+        }
         T originalCapability = getCapability(capability, side);
         if (coverBehavior != null && !isCoverable) {
             return coverBehavior.getCapability(capability, originalCapability);
@@ -1081,10 +1166,8 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     private <T> void transferToNearby(Capability<T> capability, BiConsumer<T, T> transfer, EnumFacing... allowedFaces) {
-        PooledMutableBlockPos blockPos = PooledMutableBlockPos.retain();
         for (EnumFacing nearbyFacing : allowedFaces) {
-            blockPos.setPos(getPos()).move(nearbyFacing);
-            TileEntity tileEntity = getWorld().getTileEntity(blockPos);
+            TileEntity tileEntity = getNeighbor(nearbyFacing);
             if (tileEntity == null) {
                 continue;
             }
@@ -1096,7 +1179,6 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
             }
             transfer.accept(thisCap, otherCap);
         }
-        blockPos.release();
     }
 
     public final int getOutputRedstoneSignal(@Nullable EnumFacing side) {
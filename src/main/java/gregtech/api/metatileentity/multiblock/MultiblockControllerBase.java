@@ -60,6 +60,10 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
 
+    private boolean structureDirty = true;
+    private BlockPattern watchedPattern;
+    private int watchedCacheVersion;
+
     public MultiblockControllerBase(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId);
     }
@@ -72,13 +76,14 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
 
     public void reinitializeStructurePattern() {
         this.structurePattern = createStructurePattern();
+        this.structureDirty = true;
     }
 
     @Override
     public void update() {
         super.update();
         if (!getWorld().isRemote) {
-            if (getOffsetTimer() % 20 == 0 || isFirstTick()) {
+            if ((getOffsetTimer() % 20 == 0 && isStructureCheckNeeded()) || isFirstTick()) {
                 checkStructurePattern();
             }
             // DummyWorld is the world for the JEI preview. We do not want to update the Multi in this world,
@@ -94,6 +99,45 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
      */
     protected abstract void updateFormedValid();
 
+    /**
+     * Marks the structure to be checked again on the next structure check
+     * Called when a block covered by the structure pattern changes
+     */
+    public void markStructureDirty() {
+        this.structureDirty = true;
+    }
+
+    private boolean isStructureCheckNeeded() {
+        return structureDirty || shouldPollStructure() || StructureChangeTracker.get(getWorld()) == null;
+    }
+
+    /**
+     * Override this if the structure can change without any block of its current pattern changing,
+     * for example if the shape of the pattern depends on blocks around it
+     *
+     * @return true if the structure should be checked periodically instead of only after changes
+     */
+    protected boolean shouldPollStructure() {
+        return false;
+    }
+
+    private void watchStructureBlocks() {
+        StructureChangeTracker tracker = StructureChangeTracker.get(getWorld());
+        if (tracker != null && (watchedPattern != structurePattern || watchedCacheVersion != structurePattern.getCacheVersion())) {
+            tracker.watch(this, structurePattern.cache.keySet());
+            this.watchedPattern = structurePattern;
+            this.watchedCacheVersion = structurePattern.getCacheVersion();
+        }
+    }
+
+    private void unwatchStructureBlocks() {
+        StructureChangeTracker tracker = StructureChangeTracker.get(getWorld());
+        if (tracker != null) {
+            tracker.unwatch(this);
+        }
+        this.watchedPattern = null;
+    }
+
     /**
      * @return structure pattern of this multiblock
      */
@@ -234,7 +278,9 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
 
     public void checkStructurePattern() {
         if (structurePattern == null) return;
+        this.structureDirty = false;
         PatternMatchContext context = structurePattern.checkPatternFastAt(getWorld(), getPos(), getFrontFacing().getOpposite());
+        watchStructureBlocks();
         if (context != null && !structureFormed) {
             Set<IMultiblockPart> rawPartsSet = context.getOrCreate("MultiblockParts", HashSet::new);
             ArrayList<IMultiblockPart> parts = new ArrayList<>(rawPartsSet);
@@ -242,6 +288,8 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
             for (IMultiblockPart part : parts) {
                 if (part.isAttachedToMultiBlock()) {
                     if (!part.canPartShare()) {
+                        // the part can be released without any block changing, so keep checking
+                        this.structureDirty = true;
                         return;
                     }
                 }
@@ -279,8 +327,19 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     @Override
     public void onRemoval() {
         super.onRemoval();
-        if (!getWorld().isRemote && structureFormed) {
-            invalidateStructure();
+        if (!getWorld().isRemote) {
+            unwatchStructureBlocks();
+            if (structureFormed) {
+                invalidateStructure();
+            }
+        }
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (!getWorld().isRemote) {
+            unwatchStructureBlocks();
         }
     }
 
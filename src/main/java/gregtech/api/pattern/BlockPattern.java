@@ -44,6 +44,7 @@ public class BlockPattern {
     protected final Map<TraceabilityPredicate.SimplePredicate, Integer> layerCount;
 
     public Long2ObjectMap<BlockInfo> cache = new Long2ObjectOpenHashMap<>();
+    private int cacheVersion;
     // x, y, z, minZ, maxZ
     private int[] centerOffset = null;
 
@@ -119,6 +120,14 @@ public class BlockPattern {
 
     public void clearCache() {
         cache.clear();
+        this.cacheVersion++;
+    }
+
+    /**
+     * @return a number which changes whenever the positions in the cache may have changed
+     */
+    public int getCacheVersion() {
+        return cacheVersion;
     }
 
     private PatternMatchContext checkPatternAt(World world, BlockPos centerPos, EnumFacing facing) {
@@ -129,6 +138,7 @@ public class BlockPattern {
         this.globalCount.clear();
         this.layerCount.clear();
         cache.clear();
+        this.cacheVersion++;
         //Checking aisles
         for (int c = 0, z = minZ++, r; c < this.fingerLength; c++) {
             //Checking repeatable slices
@@ -0,0 +1,213 @@
+package gregtech.api.pattern;
+
+import gregtech.api.GTValues;
+import gregtech.api.metatileentity.multiblock.MultiblockControllerBase;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps block positions to the multiblock controllers whose cached {@link BlockPattern} covers them,
+ * so block changes only mark the affected controllers for re-validation.
+ * <p>
+ * Chunk loads and unloads replace the tile entities of a structure without changing any block,
+ * so they mark all controllers covering the chunk.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class StructureChangeTracker implements IWorldEventListener {
+
+    private static final Map<World, StructureChangeTracker> trackersPerWorld = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<List<MultiblockControllerBase>> controllersByPos = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<List<MultiblockControllerBase>> controllersByChunk = new Long2ObjectOpenHashMap<>();
+    private final Map<MultiblockControllerBase, long[]> watchedPositions = new Reference2ObjectOpenHashMap<>();
+    private final Map<MultiblockControllerBase, long[]> watchedChunks = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * @return the tracker of the world, or null if block changes in the world are not tracked
+     */
+    @Nullable
+    public static StructureChangeTracker get(@Nullable World world) {
+        return world == null ? null : trackersPerWorld.get(world);
+    }
+
+    /**
+     * Starts watching the positions for a controller, replacing any positions watched before
+     *
+     * @param controller the controller to notify
+     * @param positions  the positions to watch, packed with {@link BlockPos#toLong()}
+     */
+    public void watch(@Nonnull MultiblockControllerBase controller, @Nonnull LongSet positions) {
+        unwatch(controller);
+        long[] posArray = positions.toLongArray();
+        LongSet chunks = new LongOpenHashSet();
+        for (long pos : posArray) {
+            add(controllersByPos, pos, controller);
+            BlockPos blockPos = BlockPos.fromLong(pos);
+            chunks.add(ChunkPos.asLong(blockPos.getX() >> 4, blockPos.getZ() >> 4));
+        }
+        long[] chunkArray = chunks.toLongArray();
+        for (long chunk : chunkArray) {
+            add(controllersByChunk, chunk, controller);
+        }
+        watchedPositions.put(controller, posArray);
+        watchedChunks.put(controller, chunkArray);
+    }
+
+    /**
+     * Stops watching all positions for a controller
+     */
+    public void unwatch(@Nonnull MultiblockControllerBase controller) {
+        long[] posArray = watchedPositions.remove(controller);
+        if (posArray != null) {
+            for (long pos : posArray) {
+                remove(controllersByPos, pos, controller);
+            }
+        }
+        long[] chunkArray = watchedChunks.remove(controller);
+        if (chunkArray != null) {
+            for (long chunk : chunkArray) {
+                remove(controllersByChunk, chunk, controller);
+            }
+        }
+    }
+
+    private static void add(Long2ObjectOpenHashMap<List<MultiblockControllerBase>> map, long key, MultiblockControllerBase controller) {
+        List<MultiblockControllerBase> controllers = map.get(key);
+        if (controllers == null) {
+            // most positions belong to a single structure
+            controllers = new ObjectArrayList<>(1);
+            map.put(key, controllers);
+        }
+        controllers.add(controller);
+    }
+
+    private static void remove(Long2ObjectOpenHashMap<List<MultiblockControllerBase>> map, long key, MultiblockControllerBase controller) {
+        List<MultiblockControllerBase> controllers = map.get(key);
+        if (controllers != null) {
+            controllers.remove(controller);
+            if (controllers.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static void markDirty(@Nullable List<MultiblockControllerBase> controllers) {
+        if (controllers == null) return;
+        for (int i = 0; i < controllers.size(); i++) {
+            controllers.get(i).markStructureDirty();
+        }
+    }
+
+    @Override
+    public void notifyBlockUpdate(@Nonnull World worldIn, @Nonnull BlockPos pos, @Nonnull IBlockState oldState, @Nonnull IBlockState newState, int flags) {
+        // tile entities notify with an unchanged state to sync data, which can not affect any structure
+        if (oldState != newState) {
+            markDirty(controllersByPos.get(pos.toLong()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            StructureChangeTracker tracker = new StructureChangeTracker();
+            trackersPerWorld.put(world, tracker);
+            world.addEventListener(tracker);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            StructureChangeTracker tracker = trackersPerWorld.remove(world);
+            if (tracker != null) {
+                world.removeEventListener(tracker);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        onChunkChanged(event.getWorld(), event.getChunk());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        onChunkChanged(event.getWorld(), event.getChunk());
+    }
+
+    private static void onChunkChanged(World world, Chunk chunk) {
+        StructureChangeTracker tracker = get(world);
+        if (tracker != null) {
+            markDirty(tracker.controllersByChunk.get(ChunkPos.asLong(chunk.x, chunk.z)));
+        }
+    }
+
+    @Override
+    public void notifyLightSet(@Nonnull BlockPos pos) {
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+    }
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, @Nonnull SoundEvent soundIn, @Nonnull SoundCategory category, double x, double y, double z, float volume, float pitch) {
+    }
+
+    @Override
+    public void playRecord(@Nonnull SoundEvent soundIn, @Nonnull BlockPos pos) {
+    }
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, @Nonnull int... parameters) {
+    }
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, @Nonnull int... parameters) {
+    }
+
+    @Override
+    public void onEntityAdded(@Nonnull Entity entityIn) {
+    }
+
+    @Override
+    public void onEntityRemoved(@Nonnull Entity entityIn) {
+    }
+
+    @Override
+    public void broadcastSound(int soundID, @Nonnull BlockPos pos, int data) {
+    }
+
+    @Override
+    public void playEvent(@Nullable EntityPlayer player, int type, @Nonnull BlockPos blockPosIn, int data) {
+    }
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, @Nonnull BlockPos pos, int progress) {
+    }
+}
@@ -0,0 +1,297 @@
+package gregtech.api.pipenet;
+
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Stores the nodes of a {@link PipeNet}, keyed by their packed block position and grouped by chunk.
+ * <p>
+ * Whole chunks of nodes can be handed from one store to another without touching each node,
+ * which keeps merging and splitting of large nets cheap.
+ */
+public class NodeStore<NodeDataType> {
+
+    private final Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Node<NodeDataType>>> nodesByChunk = new Long2ObjectOpenHashMap<>();
+    private final Map<BlockPos, Node<NodeDataType>> mapView = new MapView();
+    private int size;
+
+    /**
+     * @return the key of the chunk containing the position
+     */
+    public static long getChunkKey(BlockPos pos) {
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * @param pos a position packed with {@link BlockPos#toLong()}
+     * @return the key of the chunk containing the position
+     */
+    public static long getChunkKey(long pos) {
+        // x is stored in the upper 26 bits, z in the lower 26 bits
+        return ChunkPos.asLong((int) (pos >> 38) >> 4, (int) (pos << 38 >> 38) >> 4);
+    }
+
+    public static int getChunkX(long chunkKey) {
+        return (int) chunkKey;
+    }
+
+    public static int getChunkZ(long chunkKey) {
+        return (int) (chunkKey >>> 32);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Nullable
+    public Node<NodeDataType> get(long pos) {
+        Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(getChunkKey(pos));
+        return chunk == null ? null : chunk.get(pos);
+    }
+
+    @Nullable
+    public Node<NodeDataType> get(BlockPos pos) {
+        Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(getChunkKey(pos));
+        return chunk == null ? null : chunk.get(pos.toLong());
+    }
+
+    public boolean contains(long pos) {
+        Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(getChunkKey(pos));
+        return chunk != null && chunk.containsKey(pos);
+    }
+
+    public boolean contains(BlockPos pos) {
+        Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(getChunkKey(pos));
+        return chunk != null && chunk.containsKey(pos.toLong());
+    }
+
+    /**
+     * Adds a node, replacing any node at the same position
+     *
+     * @return true if the node is the first one in its chunk
+     */
+    public boolean put(long pos, Node<NodeDataType> node) {
+        long chunkKey = getChunkKey(pos);
+        Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(chunkKey);
+        boolean isNewChunk = chunk == null;
+        if (isNewChunk) {
+            chunk = new Long2ObjectOpenHashMap<>();
+            nodesByChunk.put(chunkKey, chunk);
+        }
+        if (chunk.put(pos, node) == null) {
+            this.size++;
+        }
+        return isNewChunk;
+    }
+
+    /**
+     * Removes a node. Check {@link #containsChunk(long)} afterwards to find out if its chunk was emptied.
+     *
+     * @return the removed node, or null if there was no node at the position
+     */
+    @Nullable
+    public Node<NodeDataType> remove(long pos) {
+        long chunkKey = getChunkKey(pos);
+        Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(chunkKey);
+        if (chunk == null) return null;
+        Node<NodeDataType> removed = chunk.remove(pos);
+        if (removed != null) {
+            this.size--;
+            if (chunk.isEmpty()) {
+                nodesByChunk.remove(chunkKey);
+            }
+        }
+        return removed;
+    }
+
+    public boolean containsChunk(long chunkKey) {
+        return nodesByChunk.containsKey(chunkKey);
+    }
+
+    /**
+     * @return the keys of all chunks containing at least one node, see {@link ChunkPos#asLong(int, int)}
+     */
+    public LongSet getChunkKeys() {
+        return LongSets.unmodifiable(nodesByChunk.keySet());
+    }
+
+    /**
+     * @return the nodes of a single chunk, keyed by packed position
+     */
+    public Long2ObjectMap<Node<NodeDataType>> getChunkNodes(long chunkKey) {
+        Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(chunkKey);
+        return chunk == null ? Long2ObjectMaps.emptyMap() : Long2ObjectMaps.unmodifiable(chunk);
+    }
+
+    public void clear() {
+        nodesByChunk.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Adds all nodes of another store. Chunks not yet present in this store are shared instead of copied,
+     * so the other store must not be modified afterwards.
+     *
+     * @return the keys of the chunks which were not present in this store before
+     */
+    public LongList addAll(NodeStore<NodeDataType> other) {
+        LongList newChunks = new LongArrayList();
+        for (Long2ObjectMap.Entry<Long2ObjectOpenHashMap<Node<NodeDataType>>> entry : other.nodesByChunk.long2ObjectEntrySet()) {
+            long chunkKey = entry.getLongKey();
+            Long2ObjectOpenHashMap<Node<NodeDataType>> otherChunk = entry.getValue();
+            Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(chunkKey);
+            if (chunk == null) {
+                nodesByChunk.put(chunkKey, otherChunk);
+                this.size += otherChunk.size();
+                newChunks.add(chunkKey);
+            } else {
+                for (Long2ObjectMap.Entry<Node<NodeDataType>> node : otherChunk.long2ObjectEntrySet()) {
+                    if (chunk.put(node.getLongKey(), node.getValue()) == null) {
+                        this.size++;
+                    }
+                }
+            }
+        }
+        return newChunks;
+    }
+
+    /**
+     * Removes the positions of all nodes in another store. The nodes of the other store must all be contained
+     * in this store, so chunks of the same size can be dropped as a whole.
+     *
+     * @return the keys of the chunks which no longer contain any node
+     */
+    public LongList removeAll(NodeStore<NodeDataType> other) {
+        LongList emptiedChunks = new LongArrayList();
+        for (Long2ObjectMap.Entry<Long2ObjectOpenHashMap<Node<NodeDataType>>> entry : other.nodesByChunk.long2ObjectEntrySet()) {
+            long chunkKey = entry.getLongKey();
+            Long2ObjectOpenHashMap<Node<NodeDataType>> otherChunk = entry.getValue();
+            Long2ObjectOpenHashMap<Node<NodeDataType>> chunk = nodesByChunk.get(chunkKey);
+            if (chunk == null) continue;
+            if (otherChunk.size() >= chunk.size()) {
+                this.size -= chunk.size();
+                nodesByChunk.remove(chunkKey);
+                emptiedChunks.add(chunkKey);
+                continue;
+            }
+            LongIterator iterator = otherChunk.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (chunk.remove(iterator.nextLong()) != null) {
+                    this.size--;
+                }
+            }
+        }
+        return emptiedChunks;
+    }
+
+    /**
+     * Moves all nodes into a new store, leaving this store empty
+     */
+    public NodeStore<NodeDataType> drain() {
+        NodeStore<NodeDataType> drained = new NodeStore<>();
+        drained.nodesByChunk.putAll(nodesByChunk);
+        drained.size = this.size;
+        clear();
+        return drained;
+    }
+
+    public void forEach(BiConsumer<BlockPos, Node<NodeDataType>> action) {
+        for (Long2ObjectOpenHashMap<Node<NodeDataType>> chunk : nodesByChunk.values()) {
+            for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : chunk.long2ObjectEntrySet()) {
+                action.accept(BlockPos.fromLong(entry.getLongKey()), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * @return the store backing a map returned by {@link #asMap()}, or null if the map is not backed by a store
+     */
+    @Nullable
+    public static <NodeDataType> NodeStore<NodeDataType> getBackingStore(Map<BlockPos, Node<NodeDataType>> map) {
+        //noinspection unchecked
+        return map instanceof NodeStore.MapView ? ((NodeStore<NodeDataType>.MapView) map).getStore() : null;
+    }
+
+    /**
+     * @return an unmodifiable view of this store as a map
+     */
+    public Map<BlockPos, Node<NodeDataType>> asMap() {
+        return mapView;
+    }
+
+    private class MapView extends AbstractMap<BlockPos, Node<NodeDataType>> {
+
+        private NodeStore<NodeDataType> getStore() {
+            return NodeStore.this;
+        }
+
+        private final Set<Entry<BlockPos, Node<NodeDataType>>> entrySet = new AbstractSet<Entry<BlockPos, Node<NodeDataType>>>() {
+
+            @Nonnull
+            @Override
+            public Iterator<Entry<BlockPos, Node<NodeDataType>>> iterator() {
+                Iterator<Long2ObjectOpenHashMap<Node<NodeDataType>>> chunks = nodesByChunk.values().iterator();
+                return new Iterator<Entry<BlockPos, Node<NodeDataType>>>() {
+
+                    private Iterator<Long2ObjectMap.Entry<Node<NodeDataType>>> nodes = Collections.emptyIterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        while (!nodes.hasNext() && chunks.hasNext()) {
+                            nodes = chunks.next().long2ObjectEntrySet().iterator();
+                        }
+                        return nodes.hasNext();
+                    }
+
+                    @Override
+                    public Entry<BlockPos, Node<NodeDataType>> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        Long2ObjectMap.Entry<Node<NodeDataType>> entry = nodes.next();
+                        return new SimpleImmutableEntry<>(BlockPos.fromLong(entry.getLongKey()), entry.getValue());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return NodeStore.this.size;
+            }
+        };
+
+        @Nonnull
+        @Override
+        public Set<Entry<BlockPos, Node<NodeDataType>>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public Node<NodeDataType> get(Object key) {
+            return key instanceof BlockPos ? NodeStore.this.get((BlockPos) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof BlockPos && contains((BlockPos) key);
+        }
+
+        @Override
+        public int size() {
+            return NodeStore.this.size;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super BlockPos, ? super Node<NodeDataType>> action) {
+            NodeStore.this.forEach(action::accept);
+        }
+    }
+}
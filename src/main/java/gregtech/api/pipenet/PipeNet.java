@@ -4,7 +4,14 @@ import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.TObjectIntMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.nbt.NBTTagByteArray;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -15,14 +22,11 @@ import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.INBTSerializable;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCompound> {
 
     protected final WorldPipeNet<NodeDataType, PipeNet<NodeDataType>> worldData;
-    private final Map<BlockPos, Node<NodeDataType>> nodeByBlockPos = new HashMap<>();
-    private final Map<BlockPos, Node<NodeDataType>> unmodifiableNodeByBlockPos = Collections.unmodifiableMap(nodeByBlockPos);
-    private final Map<ChunkPos, Integer> ownedChunks = new HashMap<>();
+    private final NodeStore<NodeDataType> nodes = new NodeStore<>();
     private long lastUpdate;
     boolean isValid = false;
 
@@ -32,7 +36,20 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     public Set<ChunkPos> getContainedChunks() {
-        return Collections.unmodifiableSet(ownedChunks.keySet());
+        Set<ChunkPos> containedChunks = new ObjectOpenHashSet<>();
+        LongIterator iterator = nodes.getChunkKeys().iterator();
+        while (iterator.hasNext()) {
+            long chunkKey = iterator.nextLong();
+            containedChunks.add(new ChunkPos(NodeStore.getChunkX(chunkKey), NodeStore.getChunkZ(chunkKey)));
+        }
+        return Collections.unmodifiableSet(containedChunks);
+    }
+
+    /**
+     * @return the keys of all chunks containing nodes of this net, see {@link ChunkPos#asLong(int, int)}
+     */
+    public LongSet getContainedChunkKeys() {
+        return nodes.getChunkKeys();
     }
 
     public World getWorldData() {
@@ -60,24 +77,52 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     public void onPipeConnectionsUpdate() {
     }
 
+    /**
+     * Is called when the connection of a single pipe to one of its sides changes
+     *
+     * @param nodePos the position of the pipe
+     * @param side    the side which changed
+     */
+    public void onPipeConnectionsUpdate(BlockPos nodePos, EnumFacing side) {
+        onPipeConnectionsUpdate();
+    }
+
     public void onNeighbourUpdate(BlockPos fromPos) {
     }
 
     public Map<BlockPos, Node<NodeDataType>> getAllNodes() {
-        return unmodifiableNodeByBlockPos;
+        return nodes.asMap();
+    }
+
+    public int getNodeCount() {
+        return nodes.size();
     }
 
     public Node<NodeDataType> getNodeAt(BlockPos blockPos) {
-        return nodeByBlockPos.get(blockPos);
+        return nodes.get(blockPos);
     }
 
     public boolean containsNode(BlockPos blockPos) {
-        return nodeByBlockPos.containsKey(blockPos);
+        return nodes.contains(blockPos);
     }
 
     protected void addNodeSilently(BlockPos nodePos, Node<NodeDataType> node) {
-        this.nodeByBlockPos.put(nodePos, node);
-        checkAddedInChunk(nodePos);
+        if (this.nodes.put(nodePos.toLong(), node) && isValid()) {
+            this.worldData.addPipeNetToChunk(NodeStore.getChunkKey(nodePos), this);
+        }
+    }
+
+    /**
+     * Adds all nodes of the store, handing whole chunks over at once
+     * The store must not be modified afterwards
+     */
+    protected void addNodesSilently(NodeStore<NodeDataType> addedNodes) {
+        LongList newChunks = this.nodes.addAll(addedNodes);
+        if (isValid()) {
+            for (int i = 0; i < newChunks.size(); i++) {
+                this.worldData.addPipeNetToChunk(newChunks.getLong(i), this);
+            }
+        }
     }
 
     protected void addNode(BlockPos nodePos, Node<NodeDataType> node) {
@@ -87,35 +132,33 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected Node<NodeDataType> removeNodeWithoutRebuilding(BlockPos nodePos) {
-        Node<NodeDataType> removedNode = this.nodeByBlockPos.remove(nodePos);
-        ensureRemovedFromChunk(nodePos);
+        Node<NodeDataType> removedNode = this.nodes.remove(nodePos.toLong());
+        long chunkKey = NodeStore.getChunkKey(nodePos);
+        if (removedNode != null && !this.nodes.containsChunk(chunkKey) && isValid()) {
+            this.worldData.removePipeNetFromChunk(chunkKey, this);
+        }
         worldData.markDirty();
         return removedNode;
     }
 
-    protected void removeNode(BlockPos nodePos) {
-        if (nodeByBlockPos.containsKey(nodePos)) {
-            Node<NodeDataType> selfNode = removeNodeWithoutRebuilding(nodePos);
-            rebuildNetworkOnNodeRemoval(nodePos, selfNode);
-        }
-    }
-
-    protected void checkAddedInChunk(BlockPos nodePos) {
-        ChunkPos chunkPos = new ChunkPos(nodePos);
-        int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> (old == null ? 0 : old) + 1);
-        if (newValue == 1 && isValid()) {
-            this.worldData.addPipeNetToChunk(chunkPos, this);
+    /**
+     * Removes all nodes of the store, dropping whole chunks at once
+     * All nodes of the store must be contained in this net
+     */
+    protected void removeNodesWithoutRebuilding(NodeStore<NodeDataType> removedNodes) {
+        LongList emptiedChunks = this.nodes.removeAll(removedNodes);
+        if (isValid()) {
+            for (int i = 0; i < emptiedChunks.size(); i++) {
+                this.worldData.removePipeNetFromChunk(emptiedChunks.getLong(i), this);
+            }
         }
+        worldData.markDirty();
     }
 
-    protected void ensureRemovedFromChunk(BlockPos nodePos) {
-        ChunkPos chunkPos = new ChunkPos(nodePos);
-        int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> old == null ? 0 : old - 1);
-        if (newValue == 0) {
-            this.ownedChunks.remove(chunkPos);
-            if (isValid()) {
-                this.worldData.removePipeNetFromChunk(chunkPos, this);
-            }
+    protected void removeNode(BlockPos nodePos) {
+        if (nodes.contains(nodePos)) {
+            Node<NodeDataType> selfNode = removeNodeWithoutRebuilding(nodePos);
+            rebuildNetworkOnNodeRemoval(nodePos, selfNode);
         }
     }
 
@@ -146,13 +189,13 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 if (canNodesConnect(selfNode, facing, getNodeAt(offsetPos), this)) {
                     //now block again to call findAllConnectedBlocks
                     setBlocked(selfNode, facing, true);
-                    HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(nodePos);
-                    if (!getAllNodes().equals(thisENet)) {
+                    NodeStore<NodeDataType> thisENet = findAllConnectedBlocks(nodePos);
+                    if (thisENet.size() != nodes.size()) {
                         //node visibility has changed, split network into 2
                         //node that code below is similar to removeNodeInternal, but only for 2 networks, and without node removal
                         PipeNet<NodeDataType> newPipeNet = worldData.createNetInstance();
-                        thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                        newPipeNet.transferNodeData(thisENet, this);
+                        removeNodesWithoutRebuilding(thisENet);
+                        newPipeNet.transferNodeData(thisENet.asMap(), this);
                         worldData.addPipeNet(newPipeNet);
                     }
                 }
@@ -178,7 +221,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         if (!containsNode(nodePos)) {
             return;
         }
-        HashMap<BlockPos, Node<NodeDataType>> selfConnectedBlocks = null;
+        NodeStore<NodeDataType> selfConnectedBlocks = null;
         Node<NodeDataType> selfNode = getNodeAt(nodePos);
         int oldMark = selfNode.mark;
         selfNode.mark = newMark;
@@ -206,17 +249,18 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 if (selfConnectedBlocks == null) {
                     selfConnectedBlocks = findAllConnectedBlocks(nodePos);
                 }
-                if (getAllNodes().equals(selfConnectedBlocks)) {
+                if (selfConnectedBlocks.size() == nodes.size()) {
                     continue; //if this node is still connected to this network, just continue
                 }
                 //otherwise, it is not connected
-                HashMap<BlockPos, Node<NodeDataType>> offsetConnectedBlocks = findAllConnectedBlocks(offsetPos);
                 //if in the result of remarking offset node has separated from main network,
                 //and it is also separated from current cable too, form new network for it
-                if (!offsetConnectedBlocks.equals(selfConnectedBlocks)) {
-                    offsetConnectedBlocks.keySet().forEach(this::removeNodeWithoutRebuilding);
+                //connected sets are either equal or disjoint, so checking the offset node is enough
+                if (!selfConnectedBlocks.contains(offsetPos)) {
+                    NodeStore<NodeDataType> offsetConnectedBlocks = findAllConnectedBlocks(offsetPos);
+                    removeNodesWithoutRebuilding(offsetConnectedBlocks);
                     PipeNet<NodeDataType> offsetPipeNet = worldData.createNetInstance();
-                    offsetPipeNet.transferNodeData(offsetConnectedBlocks, this);
+                    offsetPipeNet.transferNodeData(offsetConnectedBlocks.asMap(), this);
                     worldData.addPipeNet(offsetPipeNet);
                 }
             }
@@ -244,10 +288,10 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected final void uniteNetworks(PipeNet<NodeDataType> unitedPipeNet) {
-        Map<BlockPos, Node<NodeDataType>> allNodes = new HashMap<>(unitedPipeNet.getAllNodes());
         worldData.removePipeNet(unitedPipeNet);
-        allNodes.keySet().forEach(unitedPipeNet::removeNodeWithoutRebuilding);
-        transferNodeData(allNodes, unitedPipeNet);
+        NodeStore<NodeDataType> allNodes = unitedPipeNet.nodes.drain();
+        worldData.markDirty();
+        transferNodeData(allNodes.asMap(), unitedPipeNet);
     }
 
     private boolean areNodeBlockedConnectionsCompatible(Node<NodeDataType> first, EnumFacing firstFacing, Node<NodeDataType> second) {
@@ -270,9 +314,9 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     //we need to search only this network
-    protected HashMap<BlockPos, Node<NodeDataType>> findAllConnectedBlocks(BlockPos startPos) {
-        HashMap<BlockPos, Node<NodeDataType>> observedSet = new HashMap<>();
-        observedSet.put(startPos, getNodeAt(startPos));
+    protected NodeStore<NodeDataType> findAllConnectedBlocks(BlockPos startPos) {
+        NodeStore<NodeDataType> observedSet = new NodeStore<>();
+        observedSet.put(startPos.toLong(), getNodeAt(startPos));
         Node<NodeDataType> firstNode = getNodeAt(startPos);
         MutableBlockPos currentPos = new MutableBlockPos(startPos);
         Deque<EnumFacing> moveStack = new ArrayDeque<>();
@@ -282,8 +326,8 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 currentPos.move(facing);
                 Node<NodeDataType> secondNode = getNodeAt(currentPos);
                 //if there is node, and it can connect with previous node, add it to list, and set previous node as current
-                if (secondNode != null && canNodesConnect(firstNode, facing, secondNode, this) && !observedSet.containsKey(currentPos)) {
-                    observedSet.put(currentPos.toImmutable(), getNodeAt(currentPos));
+                if (secondNode != null && canNodesConnect(firstNode, facing, secondNode, this) && !observedSet.contains(currentPos)) {
+                    observedSet.put(currentPos.toLong(), secondNode);
                     firstNode = secondNode;
                     moveStack.push(facing.getOpposite());
                     continue main;
@@ -316,8 +360,8 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                     //if there isn't any neighbour node, or it wasn't connected with us, just skip it
                     continue;
                 }
-                HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(offsetPos);
-                if (getAllNodes().equals(thisENet)) {
+                NodeStore<NodeDataType> thisENet = findAllConnectedBlocks(offsetPos);
+                if (thisENet.size() == nodes.size()) {
                     //if cable on some direction contains all nodes of this network
                     //the network didn't change so keep it as is
                     break;
@@ -325,13 +369,13 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                     //and use them to create new network with caching active nodes set
                     PipeNet<NodeDataType> energyNet = worldData.createNetInstance();
                     //remove blocks that aren't connected with this network
-                    thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                    energyNet.transferNodeData(thisENet, this);
+                    removeNodesWithoutRebuilding(thisENet);
+                    energyNet.transferNodeData(thisENet.asMap(), this);
                     worldData.addPipeNet(energyNet);
                 }
             }
         }
-        if (getAllNodes().isEmpty()) {
+        if (nodes.isEmpty()) {
             //if this energy net is empty now, remove it
             worldData.removePipeNet(this);
         }
@@ -353,9 +397,15 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      * For example, for fluid pipes it would remove amount of fluid contained in old nodes
      * from parent network and add it to it's own tank, keeping network contents when old network is split
      * Note that it should be called when parent net doesn't have transferredNodes in allNodes already
+     * Transferred nodes are usually a {@link NodeStore#asMap()} view, whose chunks are handed over at once
      */
     protected void transferNodeData(Map<BlockPos, Node<NodeDataType>> transferredNodes, PipeNet<NodeDataType> parentNet) {
-        transferredNodes.forEach(this::addNodeSilently);
+        NodeStore<NodeDataType> transferredStore = NodeStore.getBackingStore(transferredNodes);
+        if (transferredStore != null) {
+            addNodesSilently(transferredStore);
+        } else {
+            transferredNodes.forEach(this::addNodeSilently);
+        }
         onNodeConnectionsUpdate();
         worldData.markDirty();
     }
@@ -375,19 +425,17 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     @Override
     public NBTTagCompound serializeNBT() {
         NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("Nodes", serializeAllNodeList(nodeByBlockPos));
+        compound.setTag("Nodes", serializeAllNodeList(nodes));
         return compound;
     }
 
     @Override
     public void deserializeNBT(NBTTagCompound nbt) {
-        this.nodeByBlockPos.clear();
-        this.ownedChunks.clear();
+        this.nodes.clear();
         deserializeAllNodeList(nbt.getCompoundTag("Nodes"));
     }
 
     protected void deserializeAllNodeList(NBTTagCompound compound) {
-        NBTTagList allNodesList = compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND);
         NBTTagList wirePropertiesList = compound.getTagList("WireProperties", NBT.TAG_COMPOUND);
         TIntObjectMap<NodeDataType> readProperties = new TIntObjectHashMap<>();
 
@@ -398,6 +446,36 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
             readProperties.put(wirePropertiesIndex, nodeData);
         }
 
+        if (!compound.hasKey("Chunks", NBT.TAG_LIST)) {
+            //nets saved before nodes were grouped by chunk
+            deserializeLegacyNodeList(compound, readProperties);
+            return;
+        }
+        NBTTagList chunkList = compound.getTagList("Chunks", NBT.TAG_COMPOUND);
+        for (int i = 0; i < chunkList.tagCount(); i++) {
+            NBTTagCompound chunkTag = chunkList.getCompoundTagAt(i);
+            int chunkX = chunkTag.getInteger("x") << 4;
+            int chunkZ = chunkTag.getInteger("z") << 4;
+            int[] positions = chunkTag.getIntArray("Pos");
+            int[] indexes = chunkTag.getIntArray("Index");
+            //optional arrays are only written if any node has a non-default value
+            int[] openConnections = chunkTag.getIntArray("Open");
+            int[] marks = chunkTag.getIntArray("Mark");
+            byte[] activeNodes = chunkTag.getByteArray("Active");
+            for (int j = 0; j < positions.length; j++) {
+                int localPos = positions[j];
+                BlockPos blockPos = new BlockPos(chunkX + ((localPos >> 4) & 15), localPos >> 8, chunkZ + (localPos & 15));
+                NodeDataType nodeData = readProperties.get(indexes[j]);
+                int open = openConnections.length == 0 ? 0 : openConnections[j];
+                int mark = marks.length == 0 ? Node.DEFAULT_MARK : marks[j];
+                boolean isNodeActive = activeNodes.length != 0 && activeNodes[j] != 0;
+                addNodeSilently(blockPos, new Node<>(nodeData, open, mark, isNodeActive));
+            }
+        }
+    }
+
+    private void deserializeLegacyNodeList(NBTTagCompound compound, TIntObjectMap<NodeDataType> readProperties) {
+        NBTTagList allNodesList = compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND);
         for (int i = 0; i < allNodesList.tagCount(); i++) {
             NBTTagCompound nodeTag = allNodesList.getCompoundTagAt(i);
             int x = nodeTag.getInteger("x");
@@ -413,37 +491,68 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         }
     }
 
-    protected NBTTagCompound serializeAllNodeList(Map<BlockPos, Node<NodeDataType>> allNodes) {
+    /**
+     * Writes nodes grouped by chunk, with the values of all nodes in a chunk stored as arrays
+     * Positions are packed relative to their chunk, as {@code y << 8 | x << 4 | z}
+     */
+    protected NBTTagCompound serializeAllNodeList(NodeStore<NodeDataType> allNodes) {
         NBTTagCompound compound = new NBTTagCompound();
-        NBTTagList allNodesList = new NBTTagList();
+        NBTTagList chunkList = new NBTTagList();
         NBTTagList wirePropertiesList = new NBTTagList();
         TObjectIntMap<NodeDataType> alreadyWritten = new TObjectIntHashMap<>(10, 0.5f, -1);
         int currentIndex = 0;
 
-        for (Entry<BlockPos, Node<NodeDataType>> entry : allNodes.entrySet()) {
-            BlockPos nodePos = entry.getKey();
-            Node<NodeDataType> node = entry.getValue();
-            NBTTagCompound nodeTag = new NBTTagCompound();
-            nodeTag.setInteger("x", nodePos.getX());
-            nodeTag.setInteger("y", nodePos.getY());
-            nodeTag.setInteger("z", nodePos.getZ());
-            int wirePropertiesIndex = alreadyWritten.get(node.data);
-            if (wirePropertiesIndex == -1) {
-                wirePropertiesIndex = currentIndex;
-                alreadyWritten.put(node.data, wirePropertiesIndex);
-                currentIndex++;
+        LongIterator chunkIterator = allNodes.getChunkKeys().iterator();
+        while (chunkIterator.hasNext()) {
+            long chunkKey = chunkIterator.nextLong();
+            Long2ObjectMap<Node<NodeDataType>> chunkNodes = allNodes.getChunkNodes(chunkKey);
+            int nodeCount = chunkNodes.size();
+            int[] positions = new int[nodeCount];
+            int[] indexes = new int[nodeCount];
+            int[] openConnections = new int[nodeCount];
+            int[] marks = new int[nodeCount];
+            byte[] activeNodes = new byte[nodeCount];
+            boolean hasOpen = false, hasMarks = false, hasActive = false;
+
+            int j = 0;
+            for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : chunkNodes.long2ObjectEntrySet()) {
+                long nodePos = entry.getLongKey();
+                Node<NodeDataType> node = entry.getValue();
+                int x = (int) (nodePos >> 38);
+                int y = (int) (nodePos << 26 >> 52);
+                int z = (int) (nodePos << 38 >> 38);
+                positions[j] = y << 8 | (x & 15) << 4 | (z & 15);
+                int wirePropertiesIndex = alreadyWritten.get(node.data);
+                if (wirePropertiesIndex == -1) {
+                    wirePropertiesIndex = currentIndex;
+                    alreadyWritten.put(node.data, wirePropertiesIndex);
+                    currentIndex++;
+                }
+                indexes[j] = wirePropertiesIndex;
+                openConnections[j] = node.openConnections;
+                marks[j] = node.mark;
+                activeNodes[j] = (byte) (node.isActive ? 1 : 0);
+                hasOpen |= node.openConnections != 0;
+                hasMarks |= node.mark != Node.DEFAULT_MARK;
+                hasActive |= node.isActive;
+                j++;
             }
-            nodeTag.setInteger("index", wirePropertiesIndex);
-            if (node.mark != Node.DEFAULT_MARK) {
-                nodeTag.setInteger("mark", node.mark);
+
+            NBTTagCompound chunkTag = new NBTTagCompound();
+            chunkTag.setInteger("x", NodeStore.getChunkX(chunkKey));
+            chunkTag.setInteger("z", NodeStore.getChunkZ(chunkKey));
+            chunkTag.setTag("Pos", new NBTTagIntArray(positions));
+            chunkTag.setTag("Index", new NBTTagIntArray(indexes));
+            if (hasOpen) {
+                chunkTag.setTag("Open", new NBTTagIntArray(openConnections));
             }
-            if (node.openConnections > 0) {
-                nodeTag.setInteger("open", node.openConnections);
+            if (hasMarks) {
+                chunkTag.setTag("Mark", new NBTTagIntArray(marks));
             }
-            if (node.isActive) {
-                nodeTag.setBoolean("active", true);
+            if (hasActive) {
+                chunkTag.setTag("Active", new NBTTagByteArray(activeNodes));
             }
-            allNodesList.appendTag(nodeTag);
+            chunkList.appendTag(chunkTag);
         }
 
         for (NodeDataType nodeData : alreadyWritten.keySet()) {
@@ -454,7 +563,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
             wirePropertiesList.appendTag(propertiesTag);
         }
 
-        compound.setTag("NodeIndexes", allNodesList);
+        compound.setTag("Chunks", chunkList);
         compound.setTag("WireProperties", wirePropertiesList);
         return compound;
     }
@@ -1,10 +1,12 @@
 package gregtech.api.pipenet;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -17,7 +19,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
 
     private WeakReference<World> worldRef = new WeakReference<>(null);
     protected List<T> pipeNets = new ArrayList<>();
-    protected final Map<ChunkPos, List<T>> pipeNetsByChunk = new HashMap<>();
+    protected final Long2ObjectMap<List<T>> pipeNetsByChunk = new Long2ObjectOpenHashMap<>();
 
     public WorldPipeNet(String name) {
         super(name);
@@ -71,16 +73,21 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         }
     }
 
-    protected void addPipeNetToChunk(ChunkPos chunkPos, T pipeNet) {
-        this.pipeNetsByChunk.computeIfAbsent(chunkPos, any -> new ArrayList<>()).add(pipeNet);
+    protected void addPipeNetToChunk(long chunkKey, T pipeNet) {
+        List<T> list = this.pipeNetsByChunk.get(chunkKey);
+        if (list == null) {
+            list = new ArrayList<>();
+            this.pipeNetsByChunk.put(chunkKey, list);
+        }
+        list.add(pipeNet);
     }
 
-    protected void removePipeNetFromChunk(ChunkPos chunkPos, T pipeNet) {
-        List<T> list = this.pipeNetsByChunk.get(chunkPos);
+    protected void removePipeNetFromChunk(long chunkKey, T pipeNet) {
+        List<T> list = this.pipeNetsByChunk.get(chunkKey);
         if (list != null) {
             list.remove(pipeNet);
             if (list.isEmpty()) {
-                this.pipeNetsByChunk.remove(chunkPos);
+                this.pipeNetsByChunk.remove(chunkKey);
             }
         }
     }
@@ -96,7 +103,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
             pipeNet.updateBlockedConnections(nodePos, side, isBlocked);
-            pipeNet.onPipeConnectionsUpdate();
+            pipeNet.onPipeConnectionsUpdate(nodePos, side);
         }
     }
 
@@ -108,7 +115,8 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     }
 
     public T getNetFromPos(BlockPos blockPos) {
-        List<T> pipeNetsInChunk = pipeNetsByChunk.getOrDefault(new ChunkPos(blockPos), Collections.emptyList());
+        List<T> pipeNetsInChunk = pipeNetsByChunk.get(NodeStore.getChunkKey(blockPos));
+        if (pipeNetsInChunk == null) return null;
         for (T pipeNet : pipeNetsInChunk) {
             if (pipeNet.containsNode(blockPos))
                 return pipeNet;
@@ -122,13 +130,19 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
 
     protected void addPipeNetSilently(T pipeNet) {
         this.pipeNets.add(pipeNet);
-        pipeNet.getContainedChunks().forEach(chunkPos -> addPipeNetToChunk(chunkPos, pipeNet));
+        LongIterator iterator = pipeNet.getContainedChunkKeys().iterator();
+        while (iterator.hasNext()) {
+            addPipeNetToChunk(iterator.nextLong(), pipeNet);
+        }
         pipeNet.isValid = true;
     }
 
     protected void removePipeNet(T pipeNet) {
         this.pipeNets.remove(pipeNet);
-        pipeNet.getContainedChunks().forEach(chunkPos -> removePipeNetFromChunk(chunkPos, pipeNet));
+        LongIterator iterator = pipeNet.getContainedChunkKeys().iterator();
+        while (iterator.hasNext()) {
+            removePipeNetFromChunk(iterator.nextLong(), pipeNet);
+        }
         pipeNet.isValid = false;
     }
 
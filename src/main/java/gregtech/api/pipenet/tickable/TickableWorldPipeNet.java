@@ -1,19 +1,23 @@
 package gregtech.api.pipenet.tickable;
 
+import gregtech.api.pipenet.NodeStore;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.util.TickProfiler;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType> & ITickable> extends WorldPipeNet<NodeDataType, T> {
 
-    private final Map<T, List<ChunkPos>> loadedChunksByPipeNet = new HashMap<>();
+    private final Map<T, LongSet> loadedChunksByPipeNet = new HashMap<>();
     private final Set<T> tickingPipeNets = new HashSet<>();
     private final Set<T> removeLater = new HashSet<>();
 
@@ -21,17 +25,30 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         super(name);
     }
 
-    private boolean isChunkLoaded(ChunkPos chunkPos) {
+    private boolean isChunkLoaded(long chunkKey) {
         WorldServer worldServer = (WorldServer) getWorld();
         if (worldServer == null) return false;
-        return worldServer.getChunkProvider().chunkExists(chunkPos.x, chunkPos.z);
+        return worldServer.getChunkProvider().chunkExists(NodeStore.getChunkX(chunkKey), NodeStore.getChunkZ(chunkKey));
     }
 
     protected abstract int getUpdateRate();
 
     public void update() {
-        if (getWorld().getTotalWorldTime() % getUpdateRate() == 0L) {
-            tickingPipeNets.forEach(ITickable::update);
+        World world = getWorld();
+        if (world.getTotalWorldTime() % getUpdateRate() == 0L) {
+            if (TickProfiler.isSampling(world)) {
+                for (T pipeNet : tickingPipeNets) {
+                    long startTime = System.nanoTime();
+                    pipeNet.update();
+                    // nets can span many chunks, the time is attributed to one of them
+                    LongIterator chunks = pipeNet.getContainedChunkKeys().iterator();
+                    if (chunks.hasNext()) {
+                        TickProfiler.record(world, chunks.nextLong(), TickProfiler.PIPE_NET, pipeNet.getClass(), System.nanoTime() - startTime);
+                    }
+                }
+            } else {
+                tickingPipeNets.forEach(ITickable::update);
+            }
         }
         if(removeLater.size() > 0) {
             removeLater.forEach(tickingPipeNets::remove);
@@ -40,29 +57,26 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     }
 
     public void onChunkLoaded(Chunk chunk) {
-        ChunkPos chunkPos = chunk.getPos();
-        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkPos);
+        long chunkKey = ChunkPos.asLong(chunk.x, chunk.z);
+        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkKey);
         if (pipeNetsInThisChunk == null) return;
         for (T pipeNet : pipeNetsInThisChunk) {
-            List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
+            LongSet loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
                 this.tickingPipeNets.add(pipeNet);
             }
-            loadedChunks.add(chunkPos);
+            loadedChunks.add(chunkKey);
         }
     }
 
     public void onChunkUnloaded(Chunk chunk) {
-        ChunkPos chunkPos = chunk.getPos();
-        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkPos);
+        long chunkKey = ChunkPos.asLong(chunk.x, chunk.z);
+        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkKey);
         if (pipeNetsInThisChunk == null) return;
         for (T pipeNet : pipeNetsInThisChunk) {
-            List<ChunkPos> loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
-            if (loadedChunks != null && loadedChunks.contains(chunkPos)) {
-                loadedChunks.remove(chunkPos);
-                if (loadedChunks.isEmpty()) {
-                    removeFromTicking(pipeNet);
-                }
+            LongSet loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
+            if (loadedChunks != null && loadedChunks.remove(chunkKey) && loadedChunks.isEmpty()) {
+                removeFromTicking(pipeNet);
             }
         }
     }
@@ -70,30 +84,35 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     @Override
     protected void onWorldSet() {
         super.onWorldSet();
-        Map<T, List<ChunkPos>> pipeNetByLoadedChunks = pipeNets.stream()
-                .map(pipeNet -> Pair.of(pipeNet, getPipeNetLoadedChunks(pipeNet)))
-                .filter(pair -> !pair.getRight().isEmpty())
-                .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
-        if (!pipeNetByLoadedChunks.isEmpty()) {
-            this.tickingPipeNets.addAll(pipeNetByLoadedChunks.keySet());
-            this.loadedChunksByPipeNet.putAll(pipeNetByLoadedChunks);
+        for (T pipeNet : pipeNets) {
+            LongSet loadedChunks = getPipeNetLoadedChunks(pipeNet);
+            if (!loadedChunks.isEmpty()) {
+                this.tickingPipeNets.add(pipeNet);
+                this.loadedChunksByPipeNet.put(pipeNet, loadedChunks);
+            }
         }
     }
 
     @Override
     protected void addPipeNet(T pipeNet) {
         super.addPipeNet(pipeNet);
-        List<ChunkPos> loadedChunks = getPipeNetLoadedChunks(pipeNet);
+        LongSet loadedChunks = getPipeNetLoadedChunks(pipeNet);
         if (!loadedChunks.isEmpty()) {
             this.loadedChunksByPipeNet.put(pipeNet, loadedChunks);
             this.tickingPipeNets.add(pipeNet);
         }
     }
 
-    private List<ChunkPos> getPipeNetLoadedChunks(T pipeNet) {
-        return pipeNet.getContainedChunks().stream()
-                .filter(this::isChunkLoaded)
-                .collect(Collectors.toList());
+    private LongSet getPipeNetLoadedChunks(T pipeNet) {
+        LongSet loadedChunks = new LongOpenHashSet();
+        LongIterator iterator = pipeNet.getContainedChunkKeys().iterator();
+        while (iterator.hasNext()) {
+            long chunkKey = iterator.nextLong();
+            if (isChunkLoaded(chunkKey)) {
+                loadedChunks.add(chunkKey);
+            }
+        }
+        return loadedChunks;
     }
 
     @Override
@@ -109,31 +128,28 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         this.removeLater.add(pipeNet);
     }
 
-    private List<ChunkPos> getOrCreateChunkListForPipeNet(T pipeNet) {
-        return this.loadedChunksByPipeNet.computeIfAbsent(pipeNet, k -> new ArrayList<>());
+    private LongSet getOrCreateChunkListForPipeNet(T pipeNet) {
+        return this.loadedChunksByPipeNet.computeIfAbsent(pipeNet, k -> new LongOpenHashSet());
     }
 
     @Override
-    protected void addPipeNetToChunk(ChunkPos chunkPos, T pipeNet) {
-        super.addPipeNetToChunk(chunkPos, pipeNet);
-        if (isChunkLoaded(chunkPos)) {
-            List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
+    protected void addPipeNetToChunk(long chunkKey, T pipeNet) {
+        super.addPipeNetToChunk(chunkKey, pipeNet);
+        if (isChunkLoaded(chunkKey)) {
+            LongSet loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
                 this.tickingPipeNets.add(pipeNet);
             }
-            loadedChunks.add(chunkPos);
+            loadedChunks.add(chunkKey);
         }
     }
 
     @Override
-    protected void removePipeNetFromChunk(ChunkPos chunkPos, T pipeNet) {
-        super.removePipeNetFromChunk(chunkPos, pipeNet);
-        List<ChunkPos> loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
-        if (loadedChunks != null && loadedChunks.contains(chunkPos)) {
-            loadedChunks.remove(chunkPos);
-            if (loadedChunks.isEmpty()) {
-                removeFromTicking(pipeNet);
-            }
+    protected void removePipeNetFromChunk(long chunkKey, T pipeNet) {
+        super.removePipeNetFromChunk(chunkKey, pipeNet);
+        LongSet loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
+        if (loadedChunks != null && loadedChunks.remove(chunkKey) && loadedChunks.isEmpty()) {
+            removeFromTicking(pipeNet);
         }
     }
 }
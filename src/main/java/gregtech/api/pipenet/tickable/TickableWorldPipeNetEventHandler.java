@@ -5,6 +5,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
 
 import java.util.ArrayList;
@@ -27,6 +28,9 @@ public class TickableWorldPipeNetEventHandler {
 
     @SubscribeEvent
     public static void onWorldTick(WorldTickEvent event) {
+        // the event fires at the start and the end of each tick, nets update once per tick
+        if (event.phase != TickEvent.Phase.END)
+            return;
         World world = event.world;
         if (world.isRemote)
             return;
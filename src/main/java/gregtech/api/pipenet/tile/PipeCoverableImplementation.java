@@ -6,6 +6,7 @@ import gregtech.api.cover.CoverDefinition;
 import gregtech.api.cover.ICoverable;
 import gregtech.api.pipenet.block.BlockPipe;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
 import gregtech.common.ConfigHolder;
 import gregtech.core.advancement.AdvancementTriggers;
 import net.minecraft.block.Block;
@@ -226,10 +227,16 @@ public class PipeCoverableImplementation implements ICoverable {
     }
 
     public void update() {
-        if (!getWorld().isRemote) {
+        World world = getWorld();
+        if (!world.isRemote) {
+            boolean profile = TickProfiler.isSampling(world);
             for (CoverBehavior coverBehavior : coverBehaviors) {
                 if (coverBehavior instanceof ITickable) {
+                    long startTime = profile ? System.nanoTime() : 0L;
                     ((ITickable) coverBehavior).update();
+                    if (profile) {
+                        TickProfiler.record(world, getPos(), TickProfiler.COVER, coverBehavior.getClass(), System.nanoTime() - startTime);
+                    }
                 }
             }
         }
@@ -32,6 +32,7 @@ import gregtech.integration.groovy.VirtualizedRecipeMap;
 import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.SoundEvent;
@@ -88,15 +89,35 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     private final VirtualizedRecipeMap virtualizedRecipeMap;
     private final Branch lookup = new Branch();
+    @Nullable
+    private FrozenBranch frozenLookup;
+    /**
+     * Recipes by the name of their only ingredient, if every recipe is made of a single fluid without nbt.
+     * Built by the first lookup after recipes were added or removed.
+     */
+    @Nullable
+    private Map<String, Recipe> singleFluidLookup;
+    private boolean singleFluidLookupValid;
     private boolean hasOreDictedInputs = false;
     private boolean hasNBTMatcherInputs = false;
     private static final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> ingredientRoot = new WeakHashMap<>();
     private final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> fluidIngredientRoot = new WeakHashMap<>();
 
+    private static boolean bulkRegistration = false;
+    private static final Set<RecipeMap<?>> PENDING_RECIPE_MAPS = new ReferenceLinkedOpenHashSet<>();
+    // recipes added during bulk registration, not yet in the lookup tree
+    private final List<Recipe> pendingRecipes = new ObjectArrayList<>();
+    private List<Recipe> preparedRecipes;
+    private List<List<List<AbstractMapIngredient>>> preparedIngredients;
+    // bumped whenever recipes are added or removed
+    private int modificationCount;
+
 
     private Consumer<RecipeBuilder<?>> onRecipeBuildAction;
     protected SoundEvent sound;
     private RecipeMap<?> smallRecipeMap;
+    // if a subclass still overrides the findRecipe method without a lookup context
+    private final boolean overridesLegacyFindRecipe = overridesLegacyFindRecipe(getClass());
 
     public RecipeMap(String unlocalizedName, int minInputs, int maxInputs, int minOutputs, int maxOutputs, int minFluidInputs, int maxFluidInputs, int minFluidOutputs, int maxFluidOutputs, R defaultRecipe, boolean isHidden) {
         this.unlocalizedName = unlocalizedName;
@@ -137,6 +158,106 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return chanceFunction;
     }
 
+    /**
+     * Freezes every registered RecipeMap which is not frozen yet.
+     *
+     * @see #freeze()
+     */
+    public static void freezeAll() {
+        int frozen = 0;
+        for (RecipeMap<?> recipeMap : RECIPE_MAP_REGISTRY.values()) {
+            if (!recipeMap.isFrozen()) {
+                recipeMap.freeze();
+                frozen++;
+            }
+        }
+        GTLog.logger.info("Froze {} RecipeMaps", frozen);
+    }
+
+    /**
+     * Starts bulk registration. Until it is finished, recipes added to any RecipeMap are queued,
+     * instead of being inserted into the lookup tree one at a time.
+     * <p>
+     * Using a RecipeMap with queued recipes in any other way inserts its queued recipes first,
+     * so the result is the same as without bulk registration.
+     */
+    public static void startBulkRegistration() {
+        bulkRegistration = true;
+    }
+
+    /**
+     * Finishes bulk registration, and registers every queued recipe.
+     * <p>
+     * Recipes are converted to their ingredients in parallel.
+     * Afterwards, each RecipeMap inserts its recipes into its lookup tree in the order they were added,
+     * so collisions are detected and logged exactly like they would be when adding the recipes one by one.
+     */
+    public static void finishBulkRegistration() {
+        bulkRegistration = false;
+        if (PENDING_RECIPE_MAPS.isEmpty()) return;
+
+        long startTime = System.nanoTime();
+        List<RecipeMap<?>> recipeMaps = new ArrayList<>(PENDING_RECIPE_MAPS);
+        PENDING_RECIPE_MAPS.clear();
+        int recipes = 0;
+        for (RecipeMap<?> recipeMap : recipeMaps) {
+            recipes += recipeMap.pendingRecipes.size();
+        }
+
+        // nothing shared between RecipeMaps is written to while preparing
+        recipeMaps.parallelStream().forEach(RecipeMap::preparePendingRecipes);
+        // the ingredient cache is shared between RecipeMaps, so ingredients are interned on this thread
+        recipeMaps.forEach(RecipeMap::internPendingRecipes);
+        // each RecipeMap only writes to its own lookup tree
+        recipeMaps.parallelStream().forEach(RecipeMap::insertPendingRecipes);
+
+        GTLog.logger.info("Registered {} recipes in {} RecipeMaps in {} ms", recipes, recipeMaps.size(),
+                (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * @return if recipes are currently queued instead of being registered immediately
+     */
+    public static boolean isBulkRegistration() {
+        return bulkRegistration;
+    }
+
+    /**
+     * Inserts the recipes queued during bulk registration into the lookup tree
+     */
+    private void flushPendingRecipes() {
+        if (this.pendingRecipes.isEmpty()) return;
+        PENDING_RECIPE_MAPS.remove(this);
+        preparePendingRecipes();
+        internPendingRecipes();
+        insertPendingRecipes();
+    }
+
+    private void preparePendingRecipes() {
+        this.preparedRecipes = new ObjectArrayList<>(this.pendingRecipes);
+        this.preparedIngredients = this.preparedRecipes.parallelStream()
+                .map(RecipeMap::createIngredients)
+                .collect(Collectors.toList());
+        this.pendingRecipes.clear();
+    }
+
+    private void internPendingRecipes() {
+        for (int i = 0; i < this.preparedRecipes.size(); i++) {
+            updateInputFlags(this.preparedRecipes.get(i).getInputs());
+            internIngredients(this.preparedIngredients.get(i), 0);
+        }
+    }
+
+    private void insertPendingRecipes() {
+        for (int i = 0; i < this.preparedRecipes.size(); i++) {
+            recurseIngredientTreeAdd(this.preparedRecipes.get(i), this.preparedIngredients.get(i), lookup, 0, 0);
+        }
+        this.frozenLookup = null;
+        this.singleFluidLookupValid = false;
+        this.preparedRecipes = null;
+        this.preparedIngredients = null;
+    }
+
     public static boolean isFoundInvalidRecipe() {
         return foundInvalidRecipe;
     }
@@ -206,6 +327,11 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
         if (recipe.isGroovyRecipe()) {
             this.virtualizedRecipeMap.addScripted(recipe);
+        } else if (bulkRegistration) {
+            this.pendingRecipes.add(recipe);
+            PENDING_RECIPE_MAPS.add(this);
+            this.modificationCount++;
+            return;
         }
         compileRecipe(recipe);
 
@@ -215,13 +341,21 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (recipe == null) {
             return;
         }
+        flushPendingRecipes();
+        this.frozenLookup = null;
+        this.singleFluidLookupValid = false;
+        this.modificationCount++;
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         recurseIngredientTreeAdd(recipe, items, lookup, 0, 0);
     }
 
     public boolean removeRecipe(Recipe recipe) {
+        flushPendingRecipes();
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         if (recurseIngredientTreeRemove(recipe, items, lookup, 0) != null) {
+            this.frozenLookup = null;
+            this.singleFluidLookupValid = false;
+            this.modificationCount++;
             if (GroovyScriptCompat.isCurrentlyRunning()) {
                 this.virtualizedRecipeMap.addBackup(recipe);
             }
@@ -230,6 +364,117 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return false;
     }
 
+    /**
+     * Compiles the lookup tree into an immutable, array-backed form, used by lookups with a {@link RecipeLookupContext}.
+     * <p>
+     * Adding or removing a recipe afterwards discards the frozen form, and lookups fall back to the regular tree
+     * until the RecipeMap is frozen again.
+     */
+    public void freeze() {
+        flushPendingRecipes();
+        this.frozenLookup = new FrozenBranch(lookup);
+        getSingleFluidLookup();
+    }
+
+    /**
+     * Indexes the recipes of a lookup tree by their fluid, if every recipe is found directly at the root of the tree
+     * by a fluid without nbt. The index then finds the same recipes as the tree for fluids without nbt.
+     *
+     * @return the recipes by fluid name, or null if the tree contains any other kind of recipe
+     */
+    @Nullable
+    private static Map<String, Recipe> createSingleFluidLookup(@Nonnull Branch root) {
+        if (!root.getSpecialNodes().isEmpty() || root.getNodes().isEmpty()) {
+            return null;
+        }
+        Map<String, Recipe> fluidLookup = new Object2ReferenceOpenHashMap<>(root.getNodes().size());
+        for (Map.Entry<AbstractMapIngredient, Either<Recipe, Branch>> entry : root.getNodes().entrySet()) {
+            Recipe recipe = entry.getValue().leftOrNull();
+            if (recipe == null || !(entry.getKey() instanceof MapFluidIngredient)) {
+                return null;
+            }
+            MapFluidIngredient ingredient = (MapFluidIngredient) entry.getKey();
+            if (ingredient.tag != null) {
+                return null;
+            }
+            fluidLookup.put(ingredient.fluid.getName(), recipe);
+        }
+        return fluidLookup;
+    }
+
+    /**
+     * Finds a recipe with the single fluid index, trying the fluids in order like the lookup tree does
+     *
+     * @return the recipe found, or null if there is none
+     */
+    @Nullable
+    private static Recipe findSingleFluidRecipe(@Nonnull Map<String, Recipe> fluidLookup, @Nonnull List<FluidStack> fluids, @Nonnull Predicate<Recipe> canHandle) {
+        for (int i = 0; i < fluids.size(); i++) {
+            FluidStack fluid = fluids.get(i);
+            if (fluid == null || fluid.amount == 0) continue;
+            Recipe recipe = fluidLookup.get(fluid.getFluid().getName());
+            if (recipe != null && canHandle.test(recipe)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * If every recipe is made of a single fluid without nbt, like fuels, the recipes are indexed by that fluid,
+     * so lookups with these fluids are a single hash lookup per fluid.
+     *
+     * @return the single fluid index, or null if this RecipeMap contains other recipes
+     */
+    @Nullable
+    private Map<String, Recipe> getSingleFluidLookup() {
+        flushPendingRecipes();
+        if (!this.singleFluidLookupValid) {
+            this.singleFluidLookup = createSingleFluidLookup(lookup);
+            this.singleFluidLookupValid = true;
+        }
+        return this.singleFluidLookup;
+    }
+
+    /**
+     * @return the single fluid index, or null if it can not be used for the fluids
+     */
+    @Nullable
+    private Map<String, Recipe> getSingleFluidLookup(@Nonnull List<FluidStack> fluids) {
+        Map<String, Recipe> fluidLookup = getSingleFluidLookup();
+        if (fluidLookup == null) return null;
+        for (int i = 0; i < fluids.size(); i++) {
+            FluidStack fluid = fluids.get(i);
+            // recipes with nbt on their fluid are not indexed
+            if (fluid != null && fluid.tag != null) return null;
+        }
+        return fluidLookup;
+    }
+
+    /**
+     * Lookups through an override of {@link #findRecipe(long, List, List, int, boolean)} do not record which
+     * recipes they tested in the lookup context, so their failures can not be cached.
+     *
+     * @return if failed lookups of this RecipeMap can be cached by a {@link RecipeLookupCache}
+     */
+    public boolean canCacheLookups() {
+        return !overridesLegacyFindRecipe;
+    }
+
+    /**
+     * @return a counter which changes whenever recipes are added to or removed from this RecipeMap
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * @return if lookups currently use the frozen form of the lookup tree
+     */
+    public boolean isFrozen() {
+        return this.frozenLookup != null;
+    }
+
     protected ValidationResult<Recipe> postValidateRecipe(ValidationResult<Recipe> validationResult) {
         EnumValidationResult recipeStatus = validationResult.getType();
         Recipe recipe = validationResult.getResult();
@@ -307,16 +552,105 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     @Nullable
     public Recipe findRecipe(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, int outputFluidTankCapacity, boolean exactVoltage) {
-        return find(inputs.stream().filter(s -> !s.isEmpty()).collect(Collectors.toList()), fluidInputs.stream().filter(Objects::nonNull).collect(Collectors.toList()), recipe -> {
+        return findRecipe(voltage, inputs, fluidInputs, outputFluidTankCapacity, exactVoltage, null);
+    }
+
+    /**
+     * Finds a Recipe matching the Fluid and/or ItemStack Inputs, reusing the scratch state of the caller.
+     *
+     * @param voltage                 Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs                  the Item Inputs
+     * @param fluidInputs             the Fluid Inputs
+     * @param outputFluidTankCapacity minimal capacity of output fluid tank, used for fluid canner recipes for example
+     * @param context                 the lookup context of the caller
+     * @return the Recipe it has found or null for no matching Recipe
+     */
+    @Nullable
+    public Recipe findRecipe(long voltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs, int outputFluidTankCapacity, @Nonnull RecipeLookupContext context) {
+        context.setInputs(inputs, fluidInputs);
+        return findRecipe(voltage, context.getItemInputs(), context.getFluidInputs(), outputFluidTankCapacity, false, context);
+    }
+
+    /**
+     * Finds a Recipe matching the Fluid and/or ItemStack Inputs.
+     * <p>
+     * Override this method instead of the other findRecipe methods to change lookup behavior.
+     * Subclasses which override {@link #findRecipe(long, List, List, int, boolean)} instead are still called,
+     * and search without the context.
+     *
+     * @param voltage                 Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs                  the Item Inputs
+     * @param fluidInputs             the Fluid Inputs
+     * @param outputFluidTankCapacity minimal capacity of output fluid tank, used for fluid canner recipes for example
+     * @param exactVoltage            should require exact voltage matching on recipe. used by craftweaker
+     * @param context                 the lookup context of the caller, or null to search without one
+     * @return the Recipe it has found or null for no matching Recipe
+     */
+    @Nullable
+    public Recipe findRecipe(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, int outputFluidTankCapacity, boolean exactVoltage, @Nullable RecipeLookupContext context) {
+        if (context != null && overridesLegacyFindRecipe) {
+            // the override calls back into this method without a context
+            return findRecipe(voltage, inputs, fluidInputs, outputFluidTankCapacity, exactVoltage);
+        }
+        if (context != null) {
+            Map<String, Recipe> fluidLookup = getSingleFluidLookup(fluidInputs);
+            if (fluidLookup == null) {
+                return find(context.prepare(voltage, exactVoltage, inputs, fluidInputs));
+            }
+            try {
+                return findSingleFluidRecipe(fluidLookup, fluidInputs, context.prepare(voltage, exactVoltage, inputs, fluidInputs));
+            } finally {
+                context.release();
+            }
+        }
+        Predicate<Recipe> canHandle = recipe -> {
             if (exactVoltage && recipe.getEUt() != voltage) {
                 return false;
             }
             return recipe.getEUt() <= voltage && recipe.matches(false, inputs, fluidInputs);
-        });
+        };
+        return find(inputs.stream().filter(s -> !s.isEmpty()).collect(Collectors.toList()), fluidInputs.stream().filter(Objects::nonNull).collect(Collectors.toList()), canHandle);
+    }
+
+    private static boolean overridesLegacyFindRecipe(@Nonnull Class<?> recipeMapClass) {
+        try {
+            return recipeMapClass.getMethod("findRecipe", long.class, List.class, List.class, int.class, boolean.class)
+                    .getDeclaringClass() != RecipeMap.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Finds a Recipe using the inputs and matcher prepared in the context.
+     * Does not allocate once the context's pools fit the inputs.
+     *
+     * @param context the prepared lookup context
+     * @return the Recipe it has found or null for no matching Recipe
+     */
+    @Nullable
+    public Recipe find(@Nonnull RecipeLookupContext context) {
+        try {
+            flushPendingRecipes();
+            if (context.buildIngredients(hasOreDictedInputs, hasNBTMatcherInputs) == 0) {
+                return null;
+            }
+            FrozenBranch frozen = this.frozenLookup;
+            if (frozen != null) {
+                return frozen.find(context);
+            }
+            return recurseIngredientTreeFindRecipe(context, lookup);
+        } finally {
+            context.release();
+        }
     }
 
     @Nullable
     public Recipe find(@Nonnull List<ItemStack> items, @Nonnull List<FluidStack> fluids, @Nonnull Predicate<Recipe> canHandle) {
+        Map<String, Recipe> fluidLookup = getSingleFluidLookup(fluids);
+        if (fluidLookup != null) {
+            return findSingleFluidRecipe(fluidLookup, fluids, canHandle);
+        }
         // First, check if items and fluids are valid.
         if (items.size() == Integer.MAX_VALUE || fluids.size() == Integer.MAX_VALUE) {
             return null;
@@ -486,6 +820,78 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return null;
     }
 
+    /**
+     * Recursively finds a recipe using pooled ingredients, top level.
+     *
+     * @param context    the lookup context holding the ingredients and the matcher
+     * @param branchRoot the root branch to search from.
+     * @return a recipe
+     */
+    private Recipe recurseIngredientTreeFindRecipe(@Nonnull RecipeLookupContext context, @Nonnull Branch branchRoot) {
+        // Try each ingredient as a starting point, adding it to the skiplist.
+        for (int i = 0; i < context.getIngredientCount(); i++) {
+            Recipe r = recurseIngredientTreeFindRecipe(context, branchRoot, i, 0, (1L << i));
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Recursively finds a recipe using pooled ingredients.
+     * Same as {@link #recurseIngredientTreeFindRecipe(List, Branch, Predicate, int, int, long)}, without lambdas.
+     */
+    private Recipe recurseIngredientTreeFindRecipe(@Nonnull RecipeLookupContext context, @Nonnull Branch branchMap, int index, int count, long skip) {
+        if (count == context.getIngredientCount()) {
+            return null;
+        }
+        // Iterate over current level of nodes.
+        for (int i = 0; i < context.getIngredientSize(index); i++) {
+            AbstractMapIngredient t = context.getIngredient(index, i);
+            Map<AbstractMapIngredient, Either<Recipe, Branch>> targetMap;
+            if (t.isSpecialIngredient()) {
+                targetMap = branchMap.getSpecialNodes();
+            } else {
+                targetMap = branchMap.getNodes();
+            }
+
+            Either<Recipe, Branch> result = targetMap.get(t);
+            if (result != null) {
+                // Either return recipe or continue branch.
+                Recipe recipe = result.leftOrNull();
+                Recipe r;
+                if (recipe != null) {
+                    r = context.test(recipe) ? recipe : null;
+                } else {
+                    r = diveIngredientTreeFindRecipe(context, result.rightOrNull(), index, count, skip);
+                }
+                if (r != null) {
+                    return r;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Recipe diveIngredientTreeFindRecipe(@Nonnull RecipeLookupContext context, @Nonnull Branch map, int index, int count, long skip) {
+        int size = context.getIngredientCount();
+        // We loop around ingredients.size() if we reach the end.
+        int counter = (index + 1) % size;
+        while (counter != index) {
+            // Have we already used this ingredient? If so, skip this one.
+            if (((skip & (1L << counter)) == 0)) {
+                // Recursive call.
+                Recipe found = recurseIngredientTreeFindRecipe(context, map, counter, count + 1, skip | (1L << counter));
+                if (found != null) {
+                    return found;
+                }
+            }
+            counter = (counter + 1) % size;
+        }
+        return null;
+    }
+
     /**
      * Exhaustively gathers all recipes that can be crafted with the given ingredients, into a Set.
      *
@@ -525,6 +931,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (list.size() == 0) {
             return null;
         }
+        flushPendingRecipes();
         Set<Recipe> collidingRecipes = new HashSet<>();
         return recurseIngredientTreeFindRecipeCollisions(list, lookup, collidingRecipes);
     }
@@ -782,16 +1189,14 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     }
 
     protected void buildFromRecipeFluids(List<List<AbstractMapIngredient>> builder, List<GTRecipeInput> fluidInputs) {
+        int start = builder.size();
+        createFromRecipeFluids(builder, fluidInputs);
+        internIngredients(builder, start);
+    }
+
+    private static void createFromRecipeFluids(List<List<AbstractMapIngredient>> builder, List<GTRecipeInput> fluidInputs) {
         for (GTRecipeInput fluidInput : fluidInputs) {
-            AbstractMapIngredient ingredient;
-            ingredient = new MapFluidIngredient(fluidInput);
-            WeakReference<AbstractMapIngredient> cached = fluidIngredientRoot.get(ingredient);
-            if (cached != null && cached.get() != null) {
-                builder.add(Collections.singletonList(cached.get()));
-            } else {
-                fluidIngredientRoot.put(ingredient, new WeakReference<>(ingredient));
-                builder.add(Collections.singletonList(ingredient));
-            }
+            builder.add(Collections.singletonList(new MapFluidIngredient(fluidInput)));
         }
     }
 
@@ -813,48 +1218,96 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     }
 
     protected void buildFromRecipeItems(List<List<AbstractMapIngredient>> list, List<GTRecipeInput> ingredients) {
+        updateInputFlags(ingredients);
+        int start = list.size();
+        createFromRecipeItems(list, ingredients);
+        internIngredients(list, start);
+    }
+
+    private static void createFromRecipeItems(List<List<AbstractMapIngredient>> list, List<GTRecipeInput> ingredients) {
         for (GTRecipeInput r : ingredients) {
-            AbstractMapIngredient ingredient;
             if (r.isOreDict()) {
-                hasOreDictedInputs = true;
+                AbstractMapIngredient ingredient;
                 if (r.hasNBTMatchingCondition()) {
-                    hasNBTMatcherInputs = true;
                     ingredient = new MapOreDictNBTIngredient(r.getOreDict(), r.getNBTMatcher(), r.getNBTMatchingCondition());
                 } else {
                     ingredient = new MapOreDictIngredient(r.getOreDict());
                 }
-
-                WeakReference<AbstractMapIngredient> cached = ingredientRoot.get(ingredient);
-                if (cached != null && cached.get() != null) {
-                    list.add(Collections.singletonList(cached.get()));
-                } else {
-                    ingredientRoot.put(ingredient, new WeakReference<>(ingredient));
-                    list.add(Collections.singletonList(ingredient));
-                }
-
+                list.add(Collections.singletonList(ingredient));
             } else {
                 List<AbstractMapIngredient> inner = new ObjectArrayList<>(1);
                 if (r.hasNBTMatchingCondition()) {
                     inner.addAll(MapItemStackNBTIngredient.from(r));
-                    hasNBTMatcherInputs = true;
                 } else {
                     inner.addAll(MapItemStackIngredient.from(r));
                 }
+                list.add(inner);
+            }
+        }
+    }
 
-                for (int i = 0; i < inner.size(); i++) {
-                    AbstractMapIngredient mappedIngredient = inner.get(i);
-                    WeakReference<AbstractMapIngredient> cached = ingredientRoot.get(mappedIngredient);
-                    if (cached != null && cached.get() != null) {
-                        inner.set(i, cached.get());
-                    } else {
-                        ingredientRoot.put(mappedIngredient, new WeakReference<>(mappedIngredient));
-                    }
+    /**
+     * Converts a recipe to its ingredients, without interning them.
+     * Does not modify the RecipeMap, so it is safe to call from any thread.
+     *
+     * @param r the recipe to convert
+     * @return the ingredients of the recipe
+     */
+    private static List<List<AbstractMapIngredient>> createIngredients(Recipe r) {
+        List<List<AbstractMapIngredient>> list = new ObjectArrayList<>((r.getInputs().size()) + r.getFluidInputs().size());
+        if (r.getInputs().size() > 0) {
+            createFromRecipeItems(list, uniqueIngredientsList(r.getInputs()));
+        }
+        if (r.getFluidInputs().size() > 0) {
+            createFromRecipeFluids(list, r.getFluidInputs());
+        }
+        return list;
+    }
+
+    private void updateInputFlags(List<GTRecipeInput> ingredients) {
+        for (GTRecipeInput r : ingredients) {
+            if (r.isOreDict()) {
+                hasOreDictedInputs = true;
+            }
+            if (r.hasNBTMatchingCondition()) {
+                hasNBTMatcherInputs = true;
+            }
+        }
+    }
+
+    /**
+     * Replaces ingredients with an equal, already cached instance, or caches them if there is none.
+     *
+     * @param list  the ingredients to intern
+     * @param start the first index in the list to intern
+     */
+    private void internIngredients(List<List<AbstractMapIngredient>> list, int start) {
+        for (int i = start; i < list.size(); i++) {
+            List<AbstractMapIngredient> inner = list.get(i);
+            if (inner.size() == 1) {
+                AbstractMapIngredient ingredient = inner.get(0);
+                AbstractMapIngredient cached = intern(ingredient);
+                if (cached != ingredient) {
+                    list.set(i, Collections.singletonList(cached));
+                }
+            } else {
+                for (int j = 0; j < inner.size(); j++) {
+                    inner.set(j, intern(inner.get(j)));
                 }
-                list.add(inner);
             }
         }
     }
 
+    private AbstractMapIngredient intern(AbstractMapIngredient ingredient) {
+        WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> root = ingredient instanceof MapFluidIngredient ? fluidIngredientRoot : ingredientRoot;
+        WeakReference<AbstractMapIngredient> cached = root.get(ingredient);
+        if (cached != null && cached.get() != null) {
+            return cached.get();
+        }
+        root.put(ingredient, new WeakReference<>(ingredient));
+        return ingredient;
+    }
+
     protected void buildFromItemStacks(List<List<AbstractMapIngredient>> list, ItemStack[] ingredients) {
         AbstractMapIngredient ingredient;
         for (ItemStack stack : ingredients) {
@@ -894,6 +1347,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     }
 
     public Collection<Recipe> getRecipeList() {
+        flushPendingRecipes();
         ObjectOpenHashSet<Recipe> recipes = new ObjectOpenHashSet<>();
         return lookup.getRecipes(true).filter(recipes::add).sorted(RECIPE_DURATION_THEN_EU).collect(Collectors.toList());
     }
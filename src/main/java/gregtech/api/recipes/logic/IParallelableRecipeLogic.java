@@ -72,13 +72,66 @@ public interface IParallelableRecipeLogic {
                 voidable);
     }
 
+    /**
+     * Multiplies a recipe by the parallelization factor, reusing the recipe built the last times the same recipe was
+     * multiplied by the same amount. Implementations overriding
+     * {@link #findMultipliedParallelRecipe(RecipeMap, Recipe, IItemHandlerModifiable, IMultipleTankHandler, IItemHandlerModifiable, IMultipleTankHandler, int, long, IVoidable)}
+     * build every recipe with it instead.
+     *
+     * @return the multiplied recipe with the parallel bonus applied, or null if it can't be run
+     */
+    default Recipe findCachedMultipliedRecipe(@Nonnull AbstractRecipeLogic logic, @Nonnull Recipe currentRecipe, @Nonnull IItemHandlerModifiable inputs, @Nonnull IMultipleTankHandler fluidInputs, @Nonnull IItemHandlerModifiable outputs, @Nonnull IMultipleTankHandler fluidOutputs, long maxVoltage, int parallelLimit) {
+        RecipeMap<?> recipeMap = logic.getRecipeMap();
+        if (ParallelLogic.overridesFindMultipliedParallelRecipe(getClass())) {
+            RecipeBuilder<?> parallelBuilder = findMultipliedParallelRecipe(recipeMap, currentRecipe, inputs, fluidInputs, outputs, fluidOutputs, parallelLimit, maxVoltage, logic.getMetaTileEntity());
+            // if the builder returned is null, no recipe was found.
+            if (parallelBuilder == null) {
+                logic.invalidateInputs();
+                return null;
+            }
+            //if the builder returned does not parallel, its outputs are full
+            if (parallelBuilder.getParallel() == 0) {
+                logic.invalidateOutputs();
+                return null;
+            }
+            logic.setParallelRecipesPerformed(parallelBuilder.getParallel());
+            //apply any parallel bonus
+            applyParallelBonus(parallelBuilder);
+            return parallelBuilder.build().getResult();
+        }
+
+        int multiplier = ParallelLogic.getParallelMultiplier(currentRecipe, inputs, fluidInputs, outputs, fluidOutputs, parallelLimit, maxVoltage, logic.getMetaTileEntity());
+        if (multiplier < 0) {
+            logic.invalidateInputs();
+            return null;
+        }
+        if (multiplier == 0) {
+            logic.invalidateOutputs();
+            return null;
+        }
+        logic.setParallelRecipesPerformed(multiplier);
+
+        MultipliedRecipeCache cache = logic.getMultipliedRecipeCache();
+        Recipe recipe = cache.get(recipeMap, currentRecipe, multiplier, parallelLimit);
+        if (recipe == null) {
+            RecipeBuilder<?> parallelBuilder = ParallelLogic.doParallelRecipes(currentRecipe, recipeMap, multiplier);
+            applyParallelBonus(parallelBuilder);
+            recipe = parallelBuilder.build().getResult();
+            if (recipe != null) {
+                cache.put(recipeMap, currentRecipe, multiplier, parallelLimit, recipe);
+            }
+        }
+        return recipe;
+    }
+
     // Recipes passed in here should be already trimmed, if desired
     default Recipe findParallelRecipe(@Nonnull AbstractRecipeLogic logic, @Nonnull Recipe currentRecipe, @Nonnull IItemHandlerModifiable inputs, @Nonnull IMultipleTankHandler fluidInputs, @Nonnull IItemHandlerModifiable outputs, @Nonnull IMultipleTankHandler fluidOutputs, long maxVoltage, int parallelLimit) {
         if (parallelLimit > 1 && logic.getRecipeMap() != null) {
-            RecipeBuilder<?> parallelBuilder = null;
             if (logic.getParallelLogicType() == ParallelLogicType.MULTIPLY) {
-                parallelBuilder = findMultipliedParallelRecipe(logic.getRecipeMap(), currentRecipe, inputs, fluidInputs, outputs, fluidOutputs, parallelLimit, maxVoltage, logic.getMetaTileEntity());
-            } else if (logic.getParallelLogicType() == ParallelLogicType.APPEND_ITEMS) {
+                return findCachedMultipliedRecipe(logic, currentRecipe, inputs, fluidInputs, outputs, fluidOutputs, maxVoltage, parallelLimit);
+            }
+            RecipeBuilder<?> parallelBuilder = null;
+            if (logic.getParallelLogicType() == ParallelLogicType.APPEND_ITEMS) {
                 parallelBuilder = findAppendedParallelItemRecipe(logic.getRecipeMap(), inputs, outputs, parallelLimit, maxVoltage, logic.getMetaTileEntity());
             }
             // if the builder returned is null, no recipe was found.
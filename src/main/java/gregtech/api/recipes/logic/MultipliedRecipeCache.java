@@ -0,0 +1,94 @@
+package gregtech.api.recipes.logic;
+
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the last few parallel recipes built by a single recipe logic, so a machine running the same recipe
+ * continuously does not build a new multiplied recipe every time it starts a recipe.
+ * <p>
+ * Entries are looked up by the identity of the base recipe, the parallel amount, the parallel limit and the recipe map.
+ * The parallel bonus of a logic may depend on its parallel limit, so it is part of the key.
+ * The least recently used entry is replaced first.
+ */
+public class MultipliedRecipeCache {
+
+    private static final int CAPACITY = 4;
+
+    private final RecipeMap<?>[] recipeMaps = new RecipeMap<?>[CAPACITY];
+    private final Recipe[] baseRecipes = new Recipe[CAPACITY];
+    private final int[] multipliers = new int[CAPACITY];
+    private final int[] parallelLimits = new int[CAPACITY];
+    private final Recipe[] results = new Recipe[CAPACITY];
+    private int size;
+
+    /**
+     * @param recipeMap     the recipe map of the recipe
+     * @param baseRecipe    the recipe which was multiplied
+     * @param multiplier    the amount of parallel recipes
+     * @param parallelLimit the parallel limit of the logic
+     * @return the cached multiplied recipe, or null if it is not cached
+     */
+    @Nullable
+    public Recipe get(@Nonnull RecipeMap<?> recipeMap, @Nonnull Recipe baseRecipe, int multiplier, int parallelLimit) {
+        for (int i = 0; i < size; i++) {
+            if (baseRecipes[i] == baseRecipe && multipliers[i] == multiplier &&
+                    parallelLimits[i] == parallelLimit && recipeMaps[i] == recipeMap) {
+                Recipe result = results[i];
+                moveToFront(i);
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches a multiplied recipe, replacing the least recently used entry if the cache is full
+     */
+    public void put(@Nonnull RecipeMap<?> recipeMap, @Nonnull Recipe baseRecipe, int multiplier, int parallelLimit, @Nonnull Recipe result) {
+        if (size < CAPACITY) {
+            this.size++;
+        }
+        int last = size - 1;
+        recipeMaps[last] = recipeMap;
+        baseRecipes[last] = baseRecipe;
+        multipliers[last] = multiplier;
+        parallelLimits[last] = parallelLimit;
+        results[last] = result;
+        moveToFront(last);
+    }
+
+    /**
+     * Forgets all cached recipes
+     */
+    public void invalidate() {
+        for (int i = 0; i < size; i++) {
+            recipeMaps[i] = null;
+            baseRecipes[i] = null;
+            results[i] = null;
+        }
+        this.size = 0;
+    }
+
+    private void moveToFront(int index) {
+        if (index == 0) return;
+        RecipeMap<?> recipeMap = recipeMaps[index];
+        Recipe baseRecipe = baseRecipes[index];
+        int multiplier = multipliers[index];
+        int parallelLimit = parallelLimits[index];
+        Recipe result = results[index];
+        System.arraycopy(recipeMaps, 0, recipeMaps, 1, index);
+        System.arraycopy(baseRecipes, 0, baseRecipes, 1, index);
+        System.arraycopy(multipliers, 0, multipliers, 1, index);
+        System.arraycopy(parallelLimits, 0, parallelLimits, 1, index);
+        System.arraycopy(results, 0, results, 1, index);
+        recipeMaps[0] = recipeMap;
+        baseRecipes[0] = baseRecipe;
+        multipliers[0] = multiplier;
+        parallelLimits[0] = parallelLimit;
+        results[0] = result;
+    }
+}
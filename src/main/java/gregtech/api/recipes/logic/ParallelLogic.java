@@ -28,6 +28,19 @@ import java.util.*;
 
 public abstract class ParallelLogic {
 
+    private static final ClassValue<Boolean> OVERRIDES_MULTIPLIED_RECIPE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("findMultipliedParallelRecipe", RecipeMap.class, Recipe.class, IItemHandlerModifiable.class,
+                        IMultipleTankHandler.class, IItemHandlerModifiable.class, IMultipleTankHandler.class, int.class, long.class,
+                        IVoidable.class).getDeclaringClass() != IParallelableRecipeLogic.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * @param recipe         The recipe
      * @param inputs         The item inputs
@@ -115,11 +128,17 @@ public abstract class ParallelLogic {
      * voiding products.
      */
     public static int limitParallelByItems(@Nonnull Recipe recipe, @Nonnull OverlayedItemHandler overlayedItemHandler, int multiplier) {
+        Map<ItemStackKey, Integer> recipeOutputs = GTHashMaps.fromItemStackCollection(recipe.getAllItemOutputs());
+
+        // no multiplier above the space for any of the outputs fits, so the search starts at that bound,
+        // which usually fits right away
+        for (Map.Entry<ItemStackKey, Integer> entry : recipeOutputs.entrySet()) {
+            multiplier = limitByFreeSpace(multiplier, overlayedItemHandler.getFreeSpace(entry.getKey()), entry.getValue());
+        }
+
         int minMultiplier = 0;
         int maxMultiplier = multiplier;
 
-        Map<ItemStackKey, Integer> recipeOutputs = GTHashMaps.fromItemStackCollection(recipe.getAllItemOutputs());
-
         while (minMultiplier != maxMultiplier) {
             overlayedItemHandler.reset();
 
@@ -200,6 +219,24 @@ public abstract class ParallelLogic {
         return currentMultiplier;
     }
 
+    /**
+     * Limits a multiplier to the amount of times an output fits into the space available for it.
+     * Larger multipliers can never be merged, so the binary search of the limitParallelBy methods
+     * finds the same multiplier when starting from the limited one.
+     *
+     * @param multiplier the multiplier to limit
+     * @param freeSpace  the space available for the output
+     * @param amount     the amount of the output per recipe
+     * @return the limited multiplier
+     */
+    private static int limitByFreeSpace(int multiplier, long freeSpace, int amount) {
+        // amounts are capped at Integer.MAX_VALUE while searching, so larger spaces do not limit anything
+        if (amount <= 0 || freeSpace >= Integer.MAX_VALUE) {
+            return multiplier;
+        }
+        return (int) Math.min(multiplier, freeSpace / amount);
+    }
+
     /**
      * Binary-search-like approach to find the maximum amount that can be inserted
      *
@@ -240,11 +277,17 @@ public abstract class ParallelLogic {
      * voiding products.
      */
     public static int limitParallelByFluids(@Nonnull Recipe recipe, @Nonnull OverlayedFluidHandler overlayedFluidHandler, int multiplier) {
+        Map<FluidKey, Integer> recipeFluidOutputs = GTHashMaps.fromFluidCollection(recipe.getFluidOutputs());
+
+        // no multiplier above the space for any of the outputs fits, so the search starts at that bound,
+        // which usually fits right away
+        for (Map.Entry<FluidKey, Integer> entry : recipeFluidOutputs.entrySet()) {
+            multiplier = limitByFreeSpace(multiplier, overlayedFluidHandler.getFreeSpace(entry.getKey()), entry.getValue());
+        }
+
         int minMultiplier = 0;
         int maxMultiplier = multiplier;
 
-        Map<FluidKey, Integer> recipeFluidOutputs = GTHashMaps.fromFluidCollection(recipe.getFluidOutputs());
-
         while (minMultiplier != maxMultiplier) {
             overlayedFluidHandler.reset();
 
@@ -440,9 +483,18 @@ public abstract class ParallelLogic {
 
     // At this point, the recipe is already trimmed according to the item and fluid output limit, so we just need to take care of voiding
     public static RecipeBuilder<?> doParallelRecipes(@Nonnull Recipe currentRecipe, @Nonnull RecipeMap<?> recipeMap, @Nonnull IItemHandlerModifiable importInventory, @Nonnull IMultipleTankHandler importFluids, @Nonnull IItemHandlerModifiable exportInventory, @Nonnull IMultipleTankHandler exportFluids, int parallelAmount, long maxVoltage, @Nonnull IVoidable voidable) {
-        // First check if we are limited by recipe inputs. This can short circuit a lot of consecutive checking
-        int multiplierByInputs = getMaxRecipeMultiplier(currentRecipe, importInventory, importFluids, parallelAmount);
-        if (multiplierByInputs == 0) {
+        int multiplier = getParallelMultiplier(currentRecipe, importInventory, importFluids, exportInventory, exportFluids, parallelAmount, maxVoltage, voidable);
+        return doParallelRecipes(currentRecipe, recipeMap, multiplier);
+    }
+
+    /**
+     * Builds a parallel recipe for a multiplier already found by
+     * {@link #getParallelMultiplier(Recipe, IItemHandlerModifiable, IMultipleTankHandler, IItemHandlerModifiable, IMultipleTankHandler, int, long, IVoidable)}
+     *
+     * @return the recipe builder with the parallelized recipe, or null if the multiplier is negative
+     */
+    public static RecipeBuilder<?> doParallelRecipes(@Nonnull Recipe currentRecipe, @Nonnull RecipeMap<?> recipeMap, int multiplier) {
+        if (multiplier < 0) {
             return null;
         }
         // Make a copy of the recipe builder and zero the EUt, since we append
@@ -451,28 +503,43 @@ public abstract class ParallelLogic {
         // recipe builder already has a cost applied. Don't also zero the
         // duration as it doesn't get multiplied.
         RecipeBuilder<?> recipeBuilder = recipeMap.recipeBuilder().EUt(0);
+        if (multiplier > 0) {
+            recipeBuilder.append(currentRecipe, multiplier, false);
+        }
+        return recipeBuilder;
+    }
+
+    /**
+     * Finds the amount of times a recipe can be run in parallel, without building the multiplied recipe.
+     * The result matches the parallel of the builder returned by
+     * {@link #doParallelRecipes(Recipe, RecipeMap, IItemHandlerModifiable, IMultipleTankHandler, IItemHandlerModifiable, IMultipleTankHandler, int, long, IVoidable)}
+     *
+     * @return the amount of parallel recipes, 0 if the outputs can not fit or the voltage is too low,
+     * or -1 if the inputs are missing
+     */
+    public static int getParallelMultiplier(@Nonnull Recipe currentRecipe, @Nonnull IItemHandlerModifiable importInventory, @Nonnull IMultipleTankHandler importFluids, @Nonnull IItemHandlerModifiable exportInventory, @Nonnull IMultipleTankHandler exportFluids, int parallelAmount, long maxVoltage, @Nonnull IVoidable voidable) {
+        // First check if we are limited by recipe inputs. This can short circuit a lot of consecutive checking
+        int multiplierByInputs = getMaxRecipeMultiplier(currentRecipe, importInventory, importFluids, parallelAmount);
+        if (multiplierByInputs == 0) {
+            return -1;
+        }
 
         boolean voidItems = voidable.canVoidRecipeItemOutputs();
         boolean voidFluids = voidable.canVoidRecipeFluidOutputs();
 
-
         // Simulate the merging of the maximum amount of recipes that can be run with these items
         // and limit by the amount we can successfully merge
-        int limitByOutput;
-        limitByOutput = ParallelLogic.limitByOutputMerging(currentRecipe, exportInventory, exportFluids, multiplierByInputs, voidItems, voidFluids);
+        int limitByOutput = ParallelLogic.limitByOutputMerging(currentRecipe, exportInventory, exportFluids, multiplierByInputs, voidItems, voidFluids);
 
         int recipeEUt = currentRecipe.getEUt();
         if (recipeEUt != 0) {
             int limitByVoltage = Math.abs((int) (maxVoltage / recipeEUt));
             int parallelizable = Math.min(limitByVoltage, limitByOutput);
-            if (parallelizable != 0)
-                // Use the minimum between the amount of recipes we can run with available inputs and amount of recipe outputs that can fit
-                recipeBuilder.append(currentRecipe, Math.min(parallelizable, multiplierByInputs), false);
-        } else if (limitByOutput > 0) {
-            recipeBuilder.append(currentRecipe, limitByOutput, false);
+            if (parallelizable == 0) return 0;
+            // Use the minimum between the amount of recipes we can run with available inputs and amount of recipe outputs that can fit
+            return Math.min(parallelizable, multiplierByInputs);
         }
-
-        return recipeBuilder;
+        return Math.max(0, limitByOutput);
     }
 
     /**
@@ -555,4 +622,12 @@ public abstract class ParallelLogic {
         }
         return recipeBuilder;
     }
+
+    /**
+     * @return true if the recipe logic class builds multiplied recipes itself, by overriding
+     * {@link IParallelableRecipeLogic#findMultipliedParallelRecipe(RecipeMap, Recipe, IItemHandlerModifiable, IMultipleTankHandler, IItemHandlerModifiable, IMultipleTankHandler, int, long, IVoidable)}
+     */
+    static boolean overridesFindMultipliedParallelRecipe(@Nonnull Class<?> logicClass) {
+        return OVERRIDES_MULTIPLIED_RECIPE.get(logicClass);
+    }
 }
@@ -3,6 +3,7 @@ package gregtech.api.recipes.map;
 import gregtech.api.recipes.Recipe;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
+import javax.annotation.Nullable;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -37,6 +38,22 @@ public class Branch {
         return (nodes == null || nodes.isEmpty()) && (specialNodes == null || specialNodes.isEmpty());
     }
 
+    /**
+     * @return the nodes of this branch, or null if none were ever added. Does not allocate.
+     */
+    @Nullable
+    Map<AbstractMapIngredient, Either<Recipe, Branch>> peekNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the special nodes of this branch, or null if none were ever added. Does not allocate.
+     */
+    @Nullable
+    Map<AbstractMapIngredient, Either<Recipe, Branch>> peekSpecialNodes() {
+        return specialNodes;
+    }
+
     public Map<AbstractMapIngredient, Either<Recipe, Branch>> getNodes() {
         if (nodes == null) {
             nodes = new Object2ObjectOpenHashMap<>(2);
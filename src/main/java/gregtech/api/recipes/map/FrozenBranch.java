@@ -0,0 +1,254 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable, array-backed copy of a {@link Branch} tree, used for lookups once recipe loading is done.
+ * <p>
+ * Every ingredient instance in the tree is interned to an int id. Each node of the tree is an open-addressing
+ * table of ingredient ids, stored in the shared {@link #keys} and {@link #values} arrays.
+ * A value is either the index of a child node, or the bitwise complement of an index into {@link #recipes}.
+ * <p>
+ * Lookup keys are resolved to ids through the same hash code and equality checks {@link Branch} uses,
+ * so nodes and special nodes share a single table.
+ */
+public final class FrozenBranch {
+
+    private static final int EMPTY = -1;
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    // interned ingredients, indexed by id
+    private final AbstractMapIngredient[] ingredients;
+    // ids grouped by the hash code of their ingredient
+    private final Int2IntOpenHashMap hashGroups = new Int2IntOpenHashMap();
+    private final int[] groupStarts;
+    private final int[] groupIds;
+
+    // node tables, node 0 is the root
+    private final int[] nodeOffsets;
+    private final int[] nodeMasks;
+    private final int[] keys;
+    private final int[] values;
+
+    private final Recipe[] recipes;
+
+    public FrozenBranch(@Nonnull Branch root) {
+        Builder builder = new Builder();
+        builder.addNode(root);
+
+        this.ingredients = builder.ingredients.toArray(new AbstractMapIngredient[0]);
+        this.recipes = builder.recipes.toArray(new Recipe[0]);
+        this.nodeOffsets = builder.nodeOffsets.toIntArray();
+        this.nodeMasks = builder.nodeMasks.toIntArray();
+        this.keys = builder.keys.toIntArray();
+        this.values = builder.values.toIntArray();
+
+        // sort ids by hash code, then record where each hash group starts
+        Integer[] sorted = new Integer[ingredients.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, (a, b) -> Integer.compare(ingredients[a].hashCode(), ingredients[b].hashCode()));
+
+        this.hashGroups.defaultReturnValue(-1);
+        this.groupIds = new int[sorted.length];
+        IntArrayList starts = new IntArrayList();
+        for (int i = 0; i < sorted.length; i++) {
+            int id = sorted[i];
+            groupIds[i] = id;
+            int hash = ingredients[id].hashCode();
+            if (i == 0 || hash != ingredients[sorted[i - 1]].hashCode()) {
+                hashGroups.put(hash, starts.size());
+                starts.add(i);
+            }
+        }
+        starts.add(sorted.length);
+        this.groupStarts = starts.toIntArray();
+    }
+
+    /**
+     * Finds a recipe using the ingredients built in the context.
+     *
+     * @param context the lookup context, with ingredients already built
+     * @return the recipe found, or null
+     */
+    @Nullable
+    public Recipe find(@Nonnull RecipeLookupContext context) {
+        int count = context.getIngredientCount();
+        for (int i = 0; i < count; i++) {
+            resolveIds(context, i);
+        }
+        // Try each ingredient as a starting point, adding it to the skiplist.
+        for (int i = 0; i < count; i++) {
+            Recipe r = find(context, 0, i, 0, (1L << i));
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the amount of distinct ingredients in this tree
+     */
+    public int getIngredientCount() {
+        return ingredients.length;
+    }
+
+    /**
+     * @return the amount of nodes in this tree
+     */
+    public int getNodeCount() {
+        return nodeOffsets.length;
+    }
+
+    private void resolveIds(@Nonnull RecipeLookupContext context, int index) {
+        context.clearIngredientIds(index);
+        for (int i = 0; i < context.getIngredientSize(index); i++) {
+            AbstractMapIngredient ingredient = context.getIngredient(index, i);
+            int group = hashGroups.get(ingredient.hashCode());
+            if (group == -1) continue;
+            for (int j = groupStarts[group]; j < groupStarts[group + 1]; j++) {
+                int id = groupIds[j];
+                if (ingredient.equals(ingredients[id])) {
+                    context.addIngredientId(index, id);
+                }
+            }
+        }
+    }
+
+    private Recipe find(@Nonnull RecipeLookupContext context, int node, int index, int count, long skip) {
+        if (count == context.getIngredientCount()) {
+            return null;
+        }
+        for (int i = 0; i < context.getIngredientIdCount(index); i++) {
+            int value = getChild(node, context.getIngredientId(index, i));
+            if (value == MISSING) continue;
+
+            Recipe r;
+            if (value < 0) {
+                Recipe recipe = recipes[~value];
+                r = context.test(recipe) ? recipe : null;
+            } else {
+                r = dive(context, value, index, count, skip);
+            }
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    private Recipe dive(@Nonnull RecipeLookupContext context, int node, int index, int count, long skip) {
+        int size = context.getIngredientCount();
+        // We loop around ingredients.size() if we reach the end.
+        int counter = (index + 1) % size;
+        while (counter != index) {
+            // Have we already used this ingredient? If so, skip this one.
+            if (((skip & (1L << counter)) == 0)) {
+                Recipe found = find(context, node, counter, count + 1, skip | (1L << counter));
+                if (found != null) {
+                    return found;
+                }
+            }
+            counter = (counter + 1) % size;
+        }
+        return null;
+    }
+
+    private int getChild(int node, int id) {
+        int offset = nodeOffsets[node];
+        int mask = nodeMasks[node];
+        int pos = HashCommon.mix(id) & mask;
+        while (true) {
+            int key = keys[offset + pos];
+            if (key == EMPTY) return MISSING;
+            if (key == id) return values[offset + pos];
+            pos = (pos + 1) & mask;
+        }
+    }
+
+    private static final class Builder {
+
+        private final ObjectArrayList<AbstractMapIngredient> ingredients = new ObjectArrayList<>();
+        private final Reference2IntOpenHashMap<AbstractMapIngredient> ingredientIds = new Reference2IntOpenHashMap<>();
+        private final ObjectArrayList<Recipe> recipes = new ObjectArrayList<>();
+        private final Reference2IntOpenHashMap<Recipe> recipeIds = new Reference2IntOpenHashMap<>();
+
+        private final IntArrayList nodeOffsets = new IntArrayList();
+        private final IntArrayList nodeMasks = new IntArrayList();
+        private final IntArrayList keys = new IntArrayList();
+        private final IntArrayList values = new IntArrayList();
+
+        private Builder() {
+            this.ingredientIds.defaultReturnValue(-1);
+            this.recipeIds.defaultReturnValue(-1);
+        }
+
+        private int addNode(@Nonnull Branch branch) {
+            Map<AbstractMapIngredient, Either<Recipe, Branch>> nodes = branch.peekNodes();
+            Map<AbstractMapIngredient, Either<Recipe, Branch>> specialNodes = branch.peekSpecialNodes();
+            int size = (nodes == null ? 0 : nodes.size()) + (specialNodes == null ? 0 : specialNodes.size());
+
+            // reserve the node and its table before adding children after it
+            int node = nodeOffsets.size();
+            int capacity = HashCommon.nextPowerOfTwo(Math.max(2, size * 2));
+            int offset = keys.size();
+            nodeOffsets.add(offset);
+            nodeMasks.add(capacity - 1);
+            for (int i = 0; i < capacity; i++) {
+                keys.add(EMPTY);
+                values.add(MISSING);
+            }
+
+            if (nodes != null) addEntries(nodes, offset, capacity - 1);
+            if (specialNodes != null) addEntries(specialNodes, offset, capacity - 1);
+            return node;
+        }
+
+        private void addEntries(@Nonnull Map<AbstractMapIngredient, Either<Recipe, Branch>> entries, int offset, int mask) {
+            for (Map.Entry<AbstractMapIngredient, Either<Recipe, Branch>> entry : entries.entrySet()) {
+                int id = internIngredient(entry.getKey());
+                Recipe recipe = entry.getValue().leftOrNull();
+                int value = recipe != null ? ~internRecipe(recipe) : addNode(entry.getValue().rightOrNull());
+
+                int pos = HashCommon.mix(id) & mask;
+                while (keys.getInt(offset + pos) != EMPTY) {
+                    pos = (pos + 1) & mask;
+                }
+                keys.set(offset + pos, id);
+                values.set(offset + pos, value);
+            }
+        }
+
+        private int internIngredient(@Nonnull AbstractMapIngredient ingredient) {
+            int id = ingredientIds.getInt(ingredient);
+            if (id == -1) {
+                id = ingredients.size();
+                ingredients.add(ingredient);
+                ingredientIds.put(ingredient, id);
+            }
+            return id;
+        }
+
+        private int internRecipe(@Nonnull Recipe recipe) {
+            int id = recipeIds.getInt(recipe);
+            if (id == -1) {
+                id = recipes.size();
+                recipes.add(recipe);
+                recipeIds.put(recipe, id);
+            }
+            return id;
+        }
+    }
+}
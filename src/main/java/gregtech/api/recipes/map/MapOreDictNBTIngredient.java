@@ -26,6 +26,14 @@ public class MapOreDictNBTIngredient extends MapOreDictIngredient {
         this.nbtTagCompound = nbtTagCompound;
     }
 
+    /**
+     * Re-targets this ingredient to another ore dictionary id and tag. Only used for pooled lookup keys.
+     */
+    void reset(int ore, @Nullable NBTTagCompound nbtTagCompound) {
+        this.nbtTagCompound = nbtTagCompound;
+        reset(ore);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -0,0 +1,106 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.RecipeMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Remembers the last failed recipe lookup of a single caller, so the same lookup is not repeated
+ * until the input composition, the voltage, the recipe map or its recipes change.
+ * <p>
+ * If the failed lookup never reached a recipe in the tree, input amounts cannot change the result,
+ * so they are left out of the fingerprint. Otherwise, a recipe was rejected by its amounts or voltage,
+ * and the amounts are part of the fingerprint.
+ */
+public class RecipeLookupCache {
+
+    private static long totalHits;
+    private static long totalMisses;
+
+    private RecipeMap<?> recipeMap;
+    private int recipeMapModificationCount;
+    private long voltage;
+    private long fingerprint;
+    private boolean includesAmounts;
+    private boolean valid;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Checks if a lookup is known to fail. Counts a hit if it is, and a miss otherwise.
+     *
+     * @param recipeMap the recipe map to search
+     * @param voltage   the voltage to search with
+     * @param context   the lookup context, with inputs already set
+     * @return true if the lookup can be skipped
+     */
+    public boolean isKnownFailure(@Nonnull RecipeMap<?> recipeMap, long voltage, @Nonnull RecipeLookupContext context) {
+        if (this.valid && this.recipeMap == recipeMap && this.voltage == voltage &&
+                this.recipeMapModificationCount == recipeMap.getModificationCount() &&
+                this.fingerprint == context.fingerprint(this.includesAmounts)) {
+            this.hits++;
+            totalHits++;
+            return true;
+        }
+        this.misses++;
+        totalMisses++;
+        return false;
+    }
+
+    /**
+     * Records a failed lookup.
+     *
+     * @param recipeMap the recipe map searched
+     * @param voltage   the voltage searched with
+     * @param context   the lookup context used for the search
+     */
+    public void recordFailure(@Nonnull RecipeMap<?> recipeMap, long voltage, @Nonnull RecipeLookupContext context) {
+        if (!recipeMap.canCacheLookups()) {
+            invalidate();
+            return;
+        }
+        this.recipeMap = recipeMap;
+        this.recipeMapModificationCount = recipeMap.getModificationCount();
+        this.voltage = voltage;
+        this.includesAmounts = context.hasTestedCandidate();
+        this.fingerprint = context.fingerprint(this.includesAmounts);
+        this.valid = true;
+    }
+
+    /**
+     * Forgets the last failed lookup
+     */
+    public void invalidate() {
+        this.valid = false;
+        this.recipeMap = null;
+    }
+
+    /**
+     * @return the amount of lookups skipped by this cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the amount of lookups this cache could not skip
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the amount of lookups skipped by all caches
+     */
+    public static long getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * @return the amount of lookups all caches could not skip
+     */
+    public static long getTotalMisses() {
+        return totalMisses;
+    }
+}
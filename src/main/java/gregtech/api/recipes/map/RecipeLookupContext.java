@@ -0,0 +1,424 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.recipes.Recipe;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Reusable scratch state for {@link gregtech.api.recipes.RecipeMap} lookups.
+ * <p>
+ * Holds the input lists, the per-input ingredient arrays, pooled lookup keys and the recipe matcher,
+ * so repeated searches from the same caller do not allocate once the pools have grown to the caller's inventory size.
+ * <p>
+ * A context belongs to a single caller, is not thread-safe, and must not be used for recursive lookups.
+ * Pooled keys are only ever used for map queries, and are never inserted into a {@link Branch}.
+ */
+public class RecipeLookupContext implements Predicate<Recipe> {
+
+    private final ObjectArrayList<ItemStack> itemInputs = new ObjectArrayList<>();
+    private final ObjectArrayList<FluidStack> fluidInputs = new ObjectArrayList<>();
+
+    // matcher state
+    private long voltage;
+    private boolean exactVoltage;
+    private List<ItemStack> matchItems = itemInputs;
+    private List<FluidStack> matchFluids = fluidInputs;
+    private boolean testedCandidate;
+
+    // unique, non-empty item inputs
+    private ItemStack[] uniqueItems = new ItemStack[0];
+
+    // ore dictionary ids per unique item position, reused while the item at that position does not change
+    private Item[] oreIdItems = new Item[0];
+    private int[] oreIdMetas = new int[0];
+    private int[][] oreIds = new int[0][];
+
+    // the compiled lookup ingredients, one array per input
+    private AbstractMapIngredient[][] ingredients = new AbstractMapIngredient[0][];
+    private int[] ingredientSizes = new int[0];
+    private int ingredientCount;
+
+    // interned ingredient ids per input, used by FrozenBranch
+    private int[][] ingredientIds = new int[0][];
+    private int[] ingredientIdCounts = new int[0];
+
+    // pooled lookup keys
+    private MapItemStackIngredient[] itemKeys = new MapItemStackIngredient[0];
+    private MapItemStackNBTIngredient[] itemNBTKeys = new MapItemStackNBTIngredient[0];
+    private MapFluidIngredient[] fluidKeys = new MapFluidIngredient[0];
+    private MapOreDictIngredient[] oreKeys = new MapOreDictIngredient[0];
+    private MapOreDictNBTIngredient[] oreNBTKeys = new MapOreDictNBTIngredient[0];
+    private int oreKeyCount;
+    private int oreNBTKeyCount;
+
+    /**
+     * Copies the contents of the handlers into the context's reusable input lists.
+     *
+     * @param items  the item handler to read
+     * @param fluids the fluid handler to read
+     * @return this
+     */
+    @Nonnull
+    public RecipeLookupContext setInputs(@Nonnull IItemHandler items, @Nonnull IMultipleTankHandler fluids) {
+        this.itemInputs.clear();
+        for (int i = 0; i < items.getSlots(); i++) {
+            this.itemInputs.add(items.getStackInSlot(i));
+        }
+        this.fluidInputs.clear();
+        for (int i = 0; i < fluids.getTanks(); i++) {
+            this.fluidInputs.add(fluids.getTankAt(i).getFluid());
+        }
+        // new inputs start a new lookup
+        this.testedCandidate = false;
+        return this;
+    }
+
+    /**
+     * @return the item inputs last set by {@link #setInputs(IItemHandler, IMultipleTankHandler)}
+     */
+    @Nonnull
+    public List<ItemStack> getItemInputs() {
+        return itemInputs;
+    }
+
+    /**
+     * @return the fluid inputs last set by {@link #setInputs(IItemHandler, IMultipleTankHandler)}
+     */
+    @Nonnull
+    public List<FluidStack> getFluidInputs() {
+        return fluidInputs;
+    }
+
+    /**
+     * Prepares the matcher for a new lookup.
+     *
+     * @param voltage      the voltage of the machine
+     * @param exactVoltage if recipes must match the voltage exactly
+     * @param items        the item inputs, may contain empty stacks
+     * @param fluids       the fluid inputs, may contain null stacks
+     * @return this
+     */
+    @Nonnull
+    public RecipeLookupContext prepare(long voltage, boolean exactVoltage, @Nonnull List<ItemStack> items, @Nonnull List<FluidStack> fluids) {
+        this.voltage = voltage;
+        this.exactVoltage = exactVoltage;
+        this.matchItems = items;
+        this.matchFluids = fluids;
+        this.testedCandidate = false;
+        return this;
+    }
+
+    /**
+     * @return true if the last lookup reached at least one recipe in the tree and tested it against the inputs.
+     * If false, the lookup failed on ingredient identity alone, regardless of input amounts.
+     */
+    public boolean hasTestedCandidate() {
+        return testedCandidate;
+    }
+
+    /**
+     * Computes a fingerprint of the inputs last set by {@link #setInputs(IItemHandler, IMultipleTankHandler)}.
+     * Item identity, metadata and nbt, and fluid identity and nbt are always part of the fingerprint.
+     *
+     * @param includeAmounts if stack sizes and fluid amounts should be part of the fingerprint
+     * @return the fingerprint
+     */
+    public long fingerprint(boolean includeAmounts) {
+        long hash = itemInputs.size() * 31L + fluidInputs.size();
+        for (int i = 0; i < itemInputs.size(); i++) {
+            ItemStack stack = itemInputs.get(i);
+            long stackHash = 0;
+            if (!stack.isEmpty()) {
+                stackHash = Item.getIdFromItem(stack.getItem()) * 31L + stack.getMetadata();
+                NBTTagCompound tag = stack.getTagCompound();
+                if (tag != null) stackHash = stackHash * 31L + tag.hashCode();
+                if (includeAmounts) stackHash = stackHash * 31L + stack.getCount();
+            }
+            hash = mix(hash * 31L + stackHash);
+        }
+        for (int i = 0; i < fluidInputs.size(); i++) {
+            FluidStack fluid = fluidInputs.get(i);
+            long fluidHash = 0;
+            if (fluid != null && fluid.amount > 0) {
+                fluidHash = fluid.getFluid().getName().hashCode();
+                if (fluid.tag != null) fluidHash = fluidHash * 31L + fluid.tag.hashCode();
+                if (includeAmounts) fluidHash = fluidHash * 31L + fluid.amount;
+            }
+            hash = mix(hash * 31L + fluidHash);
+        }
+        return hash;
+    }
+
+    /**
+     * 64-bit finalizer of MurmurHash3, spreads the bits of each step so fingerprints rarely collide
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Releases the references to the inputs held by the matcher and the unique item array.
+     * The lists returned by {@link #getItemInputs()} and {@link #getFluidInputs()} are left untouched.
+     */
+    public void release() {
+        this.matchItems = itemInputs;
+        this.matchFluids = fluidInputs;
+        Arrays.fill(uniqueItems, null);
+    }
+
+    @Override
+    public boolean test(@Nonnull Recipe recipe) {
+        this.testedCandidate = true;
+        if (exactVoltage && recipe.getEUt() != voltage) {
+            return false;
+        }
+        return recipe.getEUt() <= voltage && recipe.matches(false, matchItems, matchFluids);
+    }
+
+    /**
+     * Builds the lookup ingredients for the prepared inputs, mirroring
+     * {@code RecipeMap#buildFromItemStacks} and {@code RecipeMap#buildFromFluidStacks}.
+     *
+     * @param hasOreDictedInputs  if the recipe map contains ore dictionary inputs
+     * @param hasNBTMatcherInputs if the recipe map contains nbt matching inputs
+     * @return the amount of ingredients built
+     */
+    public int buildIngredients(boolean hasOreDictedInputs, boolean hasNBTMatcherInputs) {
+        this.ingredientCount = 0;
+        this.oreKeyCount = 0;
+        this.oreNBTKeyCount = 0;
+
+        int uniqueCount = collectUniqueItems();
+        for (int i = 0; i < uniqueCount; i++) {
+            ItemStack stack = uniqueItems[i];
+            int meta = stack.getMetadata();
+            NBTTagCompound nbt = stack.getTagCompound();
+
+            int[] ids = hasOreDictedInputs ? getOreIds(i, stack) : null;
+            int size = 1;
+            if (ids != null) size += hasNBTMatcherInputs ? ids.length * 2 : ids.length;
+            if (hasNBTMatcherInputs) size++;
+
+            AbstractMapIngredient[] slot = nextIngredientSlot(size);
+            int index = 0;
+            slot[index++] = getItemKey(i, stack, meta, nbt);
+            if (ids != null) {
+                for (int id : ids) {
+                    slot[index++] = nextOreKey(id);
+                    if (hasNBTMatcherInputs) {
+                        slot[index++] = nextOreNBTKey(id, nbt);
+                    }
+                }
+            }
+            if (hasNBTMatcherInputs) {
+                slot[index++] = getItemNBTKey(i, stack, meta, nbt);
+            }
+            ingredientSizes[ingredientCount++] = index;
+        }
+
+        int fluidIndex = 0;
+        for (int i = 0; i < matchFluids.size(); i++) {
+            FluidStack fluid = matchFluids.get(i);
+            if (fluid == null || fluid.amount == 0) {
+                continue;
+            }
+            AbstractMapIngredient[] slot = nextIngredientSlot(1);
+            slot[0] = getFluidKey(fluidIndex++, fluid);
+            ingredientSizes[ingredientCount++] = 1;
+        }
+        return ingredientCount;
+    }
+
+    public int getIngredientCount() {
+        return ingredientCount;
+    }
+
+    public int getIngredientSize(int index) {
+        return ingredientSizes[index];
+    }
+
+    @Nonnull
+    public AbstractMapIngredient getIngredient(int index, int subIndex) {
+        return ingredients[index][subIndex];
+    }
+
+    int getIngredientIdCount(int index) {
+        return ingredientIdCounts[index];
+    }
+
+    int getIngredientId(int index, int subIndex) {
+        return ingredientIds[index][subIndex];
+    }
+
+    void clearIngredientIds(int index) {
+        if (ingredientIds.length <= index) {
+            int length = index + 1;
+            ingredientIds = Arrays.copyOf(ingredientIds, length);
+            ingredientIdCounts = Arrays.copyOf(ingredientIdCounts, length);
+        }
+        ingredientIdCounts[index] = 0;
+    }
+
+    void addIngredientId(int index, int id) {
+        int[] ids = ingredientIds[index];
+        int count = ingredientIdCounts[index];
+        if (ids == null) {
+            ids = new int[4];
+            ingredientIds[index] = ids;
+        } else if (ids.length == count) {
+            ids = Arrays.copyOf(ids, count * 2);
+            ingredientIds[index] = ids;
+        }
+        ids[count] = id;
+        ingredientIdCounts[index] = count + 1;
+    }
+
+    /**
+     * Same as {@code RecipeMap#uniqueItems(Collection)}, but into the reusable array
+     *
+     * @return the amount of unique items
+     */
+    private int collectUniqueItems() {
+        if (uniqueItems.length < matchItems.size()) {
+            uniqueItems = new ItemStack[matchItems.size()];
+        }
+        int count = 0;
+        main:
+        for (int i = 0; i < matchItems.size(); i++) {
+            ItemStack input = matchItems.get(i);
+            if (input.isEmpty()) {
+                continue;
+            }
+            for (int j = 0; j < count; j++) {
+                ItemStack unique = uniqueItems[j];
+                if (input.isItemEqual(unique) && ItemStack.areItemStackTagsEqual(input, unique)) {
+                    continue main;
+                }
+            }
+            uniqueItems[count++] = input;
+        }
+        return count;
+    }
+
+    private int[] getOreIds(int index, @Nonnull ItemStack stack) {
+        if (oreIds.length <= index) {
+            int length = index + 1;
+            oreIdItems = Arrays.copyOf(oreIdItems, length);
+            oreIdMetas = Arrays.copyOf(oreIdMetas, length);
+            oreIds = Arrays.copyOf(oreIds, length);
+        }
+        if (oreIds[index] == null || oreIdItems[index] != stack.getItem() || oreIdMetas[index] != stack.getMetadata()) {
+            oreIdItems[index] = stack.getItem();
+            oreIdMetas[index] = stack.getMetadata();
+            oreIds[index] = OreDictionary.getOreIDs(stack);
+        }
+        return oreIds[index];
+    }
+
+    @Nonnull
+    private AbstractMapIngredient[] nextIngredientSlot(int size) {
+        if (ingredients.length <= ingredientCount) {
+            int length = ingredientCount + 1;
+            ingredients = Arrays.copyOf(ingredients, length);
+            ingredientSizes = Arrays.copyOf(ingredientSizes, length);
+        }
+        AbstractMapIngredient[] slot = ingredients[ingredientCount];
+        if (slot == null || slot.length < size) {
+            slot = new AbstractMapIngredient[size];
+            ingredients[ingredientCount] = slot;
+        }
+        return slot;
+    }
+
+    @Nonnull
+    private MapItemStackIngredient getItemKey(int index, @Nonnull ItemStack stack, int meta, NBTTagCompound nbt) {
+        if (itemKeys.length <= index) {
+            itemKeys = Arrays.copyOf(itemKeys, index + 1);
+        }
+        MapItemStackIngredient key = itemKeys[index];
+        if (key == null) {
+            key = new MapItemStackIngredient(stack, meta, nbt);
+            itemKeys[index] = key;
+        } else {
+            key.reset(stack, meta, nbt);
+        }
+        return key;
+    }
+
+    @Nonnull
+    private MapItemStackNBTIngredient getItemNBTKey(int index, @Nonnull ItemStack stack, int meta, NBTTagCompound nbt) {
+        if (itemNBTKeys.length <= index) {
+            itemNBTKeys = Arrays.copyOf(itemNBTKeys, index + 1);
+        }
+        MapItemStackNBTIngredient key = itemNBTKeys[index];
+        if (key == null) {
+            key = new MapItemStackNBTIngredient(stack, meta, nbt);
+            itemNBTKeys[index] = key;
+        } else {
+            key.reset(stack, meta, nbt);
+        }
+        return key;
+    }
+
+    @Nonnull
+    private MapFluidIngredient getFluidKey(int index, @Nonnull FluidStack fluid) {
+        if (fluidKeys.length <= index) {
+            fluidKeys = Arrays.copyOf(fluidKeys, index + 1);
+        }
+        // fluid keys are immutable, so they are only replaced when the fluid at the position changes
+        MapFluidIngredient key = fluidKeys[index];
+        if (key == null || key.fluid != fluid.getFluid() || key.tag != fluid.tag) {
+            key = new MapFluidIngredient(fluid);
+            fluidKeys[index] = key;
+        }
+        return key;
+    }
+
+    @Nonnull
+    private MapOreDictIngredient nextOreKey(int ore) {
+        if (oreKeys.length <= oreKeyCount) {
+            oreKeys = Arrays.copyOf(oreKeys, oreKeyCount + 4);
+        }
+        MapOreDictIngredient key = oreKeys[oreKeyCount];
+        if (key == null) {
+            key = new MapOreDictIngredient(ore);
+            oreKeys[oreKeyCount] = key;
+        } else {
+            key.reset(ore);
+        }
+        oreKeyCount++;
+        return key;
+    }
+
+    @Nonnull
+    private MapOreDictNBTIngredient nextOreNBTKey(int ore, NBTTagCompound nbt) {
+        if (oreNBTKeys.length <= oreNBTKeyCount) {
+            oreNBTKeys = Arrays.copyOf(oreNBTKeys, oreNBTKeyCount + 4);
+        }
+        MapOreDictNBTIngredient key = oreNBTKeys[oreNBTKeyCount];
+        if (key == null) {
+            key = new MapOreDictNBTIngredient(ore, nbt);
+            oreNBTKeys[oreNBTKeyCount] = key;
+        } else {
+            key.reset(ore, nbt);
+        }
+        oreNBTKeyCount++;
+        return key;
+    }
+}
@@ -0,0 +1,235 @@
+package gregtech.api.unification.ore;
+
+import gregtech.api.GTValues;
+import gregtech.api.unification.OreDictUnifier;
+import gregtech.api.unification.stack.MaterialStack;
+import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a {@link ChunkOreSummary} of the loaded chunks of a server world which were asked for,
+ * so prospecting a chunk again does not scan all its blocks.
+ * <p>
+ * Summaries are built the first time they are asked for, updated on block changes, and dropped when the chunk unloads.
+ * Chunks which are not populated yet are not kept, as world generation places blocks without notifying listeners.
+ * <p>
+ * Ores are named like the prospectors show them, and each name is given an id, shared by all worlds.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class ChunkOreIndex implements IWorldEventListener {
+
+    /**
+     * The ore id of blocks which are not ores
+     */
+    public static final int NOT_ORE = 0;
+
+    private static final Map<World, ChunkOreIndex> indexPerWorld = new HashMap<>();
+
+    private static final List<String> oreNames = new ObjectArrayList<>();
+    private static final Object2IntOpenHashMap<String> oreIds = new Object2IntOpenHashMap<>();
+    private static final Reference2IntOpenHashMap<IBlockState> stateOreIds = new Reference2IntOpenHashMap<>();
+
+    static {
+        oreNames.add(null);
+        oreIds.defaultReturnValue(NOT_ORE);
+        stateOreIds.defaultReturnValue(-1);
+    }
+
+    private final Long2ObjectOpenHashMap<ChunkOreSummary> summaries = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * @return the index of the world, or null if ores of the world are not indexed
+     */
+    @Nullable
+    public static ChunkOreIndex get(@Nullable World world) {
+        return world == null ? null : indexPerWorld.get(world);
+    }
+
+    /**
+     * @return the ore summary of the chunk, built now if it is not indexed yet
+     */
+    @Nonnull
+    public static ChunkOreSummary getSummary(@Nonnull World world, @Nonnull Chunk chunk) {
+        ChunkOreIndex index = get(world);
+        return index == null ? ChunkOreSummary.create(chunk) : index.getSummary(chunk);
+    }
+
+    /**
+     * @return the ore summary of the chunk, built now if it is not indexed yet
+     */
+    @Nonnull
+    public ChunkOreSummary getSummary(@Nonnull Chunk chunk) {
+        long key = ChunkPos.asLong(chunk.x, chunk.z);
+        ChunkOreSummary summary = summaries.get(key);
+        if (summary == null) {
+            summary = ChunkOreSummary.create(chunk);
+            if (chunk.isPopulated()) {
+                summaries.put(key, summary);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * @return the ore id of the state, or {@link #NOT_ORE}
+     */
+    public static int getOreId(@Nonnull IBlockState state) {
+        int oreId = stateOreIds.getInt(state);
+        if (oreId == -1) {
+            String oreName = createOreName(state);
+            if (oreName == null) {
+                oreId = NOT_ORE;
+            } else {
+                oreId = oreIds.getInt(oreName);
+                if (oreId == NOT_ORE) {
+                    oreId = oreNames.size();
+                    oreNames.add(oreName);
+                    oreIds.put(oreName, oreId);
+                }
+            }
+            stateOreIds.put(state, oreId);
+        }
+        return oreId;
+    }
+
+    /**
+     * @param oreId an ore id other than {@link #NOT_ORE}
+     * @return the name of the ore shown by prospectors, usually an ore dictionary name
+     */
+    @Nonnull
+    public static String getOreName(int oreId) {
+        return oreNames.get(oreId);
+    }
+
+    @Nullable
+    private static String createOreName(@Nonnull IBlockState state) {
+        ItemStack itemBlock = GTUtility.toItem(state);
+        if (!GTUtility.isOre(itemBlock)) {
+            return null;
+        }
+        String oreDictString = OreDictUnifier.getOreDictionaryNames(itemBlock).stream()
+                .findFirst()
+                .orElse("");
+        OrePrefix prefix = OreDictUnifier.getPrefix(itemBlock);
+        for (StoneType type : StoneType.STONE_TYPE_REGISTRY) {
+            if (type.processingPrefix == prefix && type.shouldBeDroppedAsItem) {
+                return oreDictString;
+            } else if (type.processingPrefix == prefix) {
+                MaterialStack materialStack = OreDictUnifier.getMaterial(itemBlock);
+                if (materialStack != null) {
+                    return "ore" + materialStack.material.getLocalizedName();
+                }
+            }
+        }
+        // Probably other mod's ores
+        return oreDictString;
+    }
+
+    @Override
+    public void notifyBlockUpdate(@Nonnull World worldIn, @Nonnull BlockPos pos, @Nonnull IBlockState oldState, @Nonnull IBlockState newState, int flags) {
+        // tile entities notify with an unchanged state to sync data
+        if (oldState == newState) return;
+        ChunkOreSummary summary = summaries.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (summary != null) {
+            summary.setOre(pos.getX() & 15, pos.getY(), pos.getZ() & 15, getOreId(newState));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            ChunkOreIndex index = new ChunkOreIndex();
+            indexPerWorld.put(world, index);
+            world.addEventListener(index);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            ChunkOreIndex index = indexPerWorld.remove(world);
+            if (index != null) {
+                world.removeEventListener(index);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        ChunkOreIndex index = get(event.getWorld());
+        if (index != null) {
+            Chunk chunk = event.getChunk();
+            index.summaries.remove(ChunkPos.asLong(chunk.x, chunk.z));
+        }
+    }
+
+    @Override
+    public void notifyLightSet(@Nonnull BlockPos pos) {
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+    }
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, @Nonnull SoundEvent soundIn, @Nonnull SoundCategory category, double x, double y, double z, float volume, float pitch) {
+    }
+
+    @Override
+    public void playRecord(@Nonnull SoundEvent soundIn, @Nonnull BlockPos pos) {
+    }
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, @Nonnull int... parameters) {
+    }
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, @Nonnull int... parameters) {
+    }
+
+    @Override
+    public void onEntityAdded(@Nonnull Entity entityIn) {
+    }
+
+    @Override
+    public void onEntityRemoved(@Nonnull Entity entityIn) {
+    }
+
+    @Override
+    public void broadcastSound(int soundID, @Nonnull BlockPos pos, int data) {
+    }
+
+    @Override
+    public void playEvent(@Nullable EntityPlayer player, int type, @Nonnull BlockPos blockPosIn, int data) {
+    }
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, @Nonnull BlockPos pos, int progress) {
+    }
+}
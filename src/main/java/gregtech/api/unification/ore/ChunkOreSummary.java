@@ -0,0 +1,110 @@
+package gregtech.api.unification.ore;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The ores of a chunk, listed per column with their height and ore id of {@link ChunkOreIndex}.
+ * Blocks at height 0 are never listed.
+ */
+public class ChunkOreSummary {
+
+    /**
+     * Ores per column, indexed by {@code z << 4 | x}. Each ore is packed as {@code oreId << 8 | y}
+     */
+    private final IntArrayList[] columns = new IntArrayList[256];
+
+    private ChunkOreSummary() {/**/}
+
+    /**
+     * Scans the sections of a chunk for ores
+     */
+    @Nonnull
+    public static ChunkOreSummary create(@Nonnull Chunk chunk) {
+        ChunkOreSummary summary = new ChunkOreSummary();
+        for (ExtendedBlockStorage storage : chunk.getBlockStorageArray()) {
+            if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) continue;
+            int baseY = storage.getYLocation();
+            for (int y = 0; y < 16; y++) {
+                if (baseY + y == 0) continue;
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        IBlockState state = storage.get(x, y, z);
+                        int oreId = ChunkOreIndex.getOreId(state);
+                        if (oreId != ChunkOreIndex.NOT_ORE) {
+                            summary.getOrCreateColumn(x, z).add(pack(oreId, baseY + y));
+                        }
+                    }
+                }
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * @return the amount of ores in the column
+     */
+    public int getOreCount(int x, int z) {
+        IntArrayList column = columns[z << 4 | x];
+        return column == null ? 0 : column.size();
+    }
+
+    /**
+     * @param index the index of the ore in the column, below {@link #getOreCount(int, int)}
+     * @return the height of the ore
+     */
+    public int getOreY(int x, int z, int index) {
+        return columns[z << 4 | x].getInt(index) & 0xFF;
+    }
+
+    /**
+     * @param index the index of the ore in the column, below {@link #getOreCount(int, int)}
+     * @return the ore id of the ore, see {@link ChunkOreIndex#getOreName(int)}
+     */
+    public int getOreId(int x, int z, int index) {
+        return columns[z << 4 | x].getInt(index) >>> 8;
+    }
+
+    /**
+     * Updates the ore at a position of the chunk
+     *
+     * @param oreId the new ore id at the position, or {@link ChunkOreIndex#NOT_ORE}
+     */
+    void setOre(int x, int y, int z, int oreId) {
+        if (y <= 0 || y > 255) return;
+        IntArrayList column = columns[z << 4 | x];
+        if (column != null) {
+            for (int i = 0; i < column.size(); i++) {
+                if ((column.getInt(i) & 0xFF) == y) {
+                    if (oreId == ChunkOreIndex.NOT_ORE) {
+                        column.removeInt(i);
+                    } else {
+                        column.set(i, pack(oreId, y));
+                    }
+                    return;
+                }
+            }
+        }
+        if (oreId != ChunkOreIndex.NOT_ORE) {
+            getOrCreateColumn(x, z).add(pack(oreId, y));
+        }
+    }
+
+    @Nonnull
+    private IntArrayList getOrCreateColumn(int x, int z) {
+        IntArrayList column = columns[z << 4 | x];
+        if (column == null) {
+            column = new IntArrayList(4);
+            columns[z << 4 | x] = column;
+        }
+        return column;
+    }
+
+    private static int pack(int oreId, int y) {
+        return oreId << 8 | y;
+    }
+}
@@ -0,0 +1,95 @@
+package gregtech.api.util;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An ore dictionary expression of {@link OreDictExprFilter}, compiled into a bitset over all ore dictionary ids.
+ * Matching an item stack only looks up its ore ids and tests their bits.
+ * <p>
+ * Instances are interned per expression, so filters with the same expression share the same matcher.
+ * Ore dictionary ids are assigned in order and never removed, so ids registered later are evaluated
+ * and added to the bitset when they are first encountered.
+ */
+public class OreDictExprMatcher {
+
+    /**
+     * The amount of expressions kept interned, the least recently used expression is dropped first
+     */
+    private static final int MAX_CACHED_EXPRESSIONS = 256;
+
+    private static final Object2ObjectLinkedOpenHashMap<String, OreDictExprMatcher> cache = new Object2ObjectLinkedOpenHashMap<>();
+
+    private final String expression;
+    private final List<OreDictExprFilter.MatchRule> rules;
+    private final BitSet matchingIds = new BitSet();
+    /**
+     * All ids below this have been evaluated
+     */
+    private volatile int evaluatedIds;
+
+    private OreDictExprMatcher(String expression) {
+        this.expression = expression;
+        this.rules = OreDictExprFilter.parseExpression(expression);
+    }
+
+    /**
+     * @param expression the expression to compile
+     * @return the shared matcher of the expression
+     */
+    @Nonnull
+    public static OreDictExprMatcher get(@Nonnull String expression) {
+        synchronized (cache) {
+            OreDictExprMatcher matcher = cache.getAndMoveToLast(expression);
+            if (matcher == null) {
+                matcher = new OreDictExprMatcher(expression);
+                cache.putAndMoveToLast(expression, matcher);
+                if (cache.size() > MAX_CACHED_EXPRESSIONS) {
+                    cache.removeFirst();
+                }
+            }
+            return matcher;
+        }
+    }
+
+    @Nonnull
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return if any of the ore dictionary names of the stack matches the expression
+     */
+    public boolean matches(@Nonnull ItemStack stack) {
+        if (stack.isEmpty() || rules.isEmpty()) return false;
+        for (int id : OreDictionary.getOreIDs(stack)) {
+            if (matches(id)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return if the ore dictionary name with the id matches the expression
+     */
+    public boolean matches(int oreId) {
+        if (oreId >= evaluatedIds) {
+            evaluateUpTo(oreId);
+        }
+        return matchingIds.get(oreId);
+    }
+
+    private synchronized void evaluateUpTo(int oreId) {
+        for (int id = evaluatedIds; id <= oreId; id++) {
+            if (OreDictExprFilter.matches(rules, OreDictionary.getOreName(id))) {
+                matchingIds.set(id);
+            }
+        }
+        // publishes the bits set above to unsynchronized readers
+        this.evaluatedIds = Math.max(evaluatedIds, oreId + 1);
+    }
+}
@@ -34,7 +34,7 @@ public class OverlayedFluidHandler {
     public void reset() {
         for (int i = 0; i < this.originalTanks.length; i++) {
             if (this.originalTanks[i] != null) {
-                this.overlayedTanks[i] = this.originalTanks[i].copy();
+                this.overlayedTanks[i].setFrom(this.originalTanks[i]);
             }
         }
         uniqueFluidMap.forEach((k, v) -> v.clear());
@@ -65,6 +65,29 @@ public class OverlayedFluidHandler {
         }
     }
 
+    /**
+     * Returns the space {@link #insertStackedFluidKey(FluidKey, int)} could use for the fluid
+     * in the state when the handler was first mirrored: the free space of tanks holding the fluid
+     * and the capacity of empty tanks.
+     * Other fluids never insert into tanks holding this fluid, so no more than this can be inserted.
+     *
+     * @param fluidKey the fluid to get the space for
+     * @return the space for the fluid
+     */
+    public long getFreeSpace(@Nonnull FluidKey fluidKey) {
+        long space = 0;
+        for (int i = 0; i < this.originalTanks.length; i++) {
+            initTank(i);
+            OverlayedTank tank = this.originalTanks[i];
+            if (tank.getFluidKey() == null) {
+                space += tank.getCapacity();
+            } else if (fluidKey.equals(tank.getFluidKey())) {
+                space += Math.max(0, tank.getCapacity() - tank.getFluidAmount());
+            }
+        }
+        return space;
+    }
+
     public int insertStackedFluidKey(@Nonnull FluidKey toInsert, int amountToInsert) {
         int insertedAmount = 0;
         for (int i = 0; i < this.overlayedTanks.length; i++) {
@@ -152,12 +175,6 @@ public class OverlayedFluidHandler {
             this.capacity = property.getCapacity();
         }
 
-        OverlayedTank(FluidKey fluidKey, int fluidAmount, int capacity) {
-            this.fluidKey = fluidKey;
-            this.fluidAmount = fluidAmount;
-            this.capacity = capacity;
-        }
-
         public int getCapacity() {
             return capacity;
         }
@@ -178,8 +195,10 @@ public class OverlayedFluidHandler {
             this.fluidAmount = fluidAmount;
         }
 
-        public OverlayedTank copy() {
-            return new OverlayedTank(this.fluidKey, this.fluidAmount, this.capacity);
+        public void setFrom(OverlayedTank tank) {
+            this.fluidKey = tank.fluidKey;
+            this.fluidAmount = tank.fluidAmount;
+            this.capacity = tank.capacity;
         }
     }
 }
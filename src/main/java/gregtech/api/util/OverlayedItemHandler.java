@@ -23,7 +23,7 @@ public class OverlayedItemHandler {
     public void reset() {
         for (int i = 0; i < this.originalSlots.length; i++) {
             if (this.originalSlots[i] != null) {
-                this.slots[i] = this.originalSlots[i].copy();
+                this.slots[i].setFrom(this.originalSlots[i]);
             }
         }
     }
@@ -49,6 +49,27 @@ public class OverlayedItemHandler {
     }
 
 
+    /**
+     * Returns the space {@link #insertStackedItemStackKey(ItemStackKey, int)} could use for the key
+     * in the state when the handler was first mirrored: the free space of slots holding the key
+     * and the slot limit of empty slots.
+     * Other keys never insert into slots holding this key, so no more than this can be inserted.
+     *
+     * @param key the key to get the space for
+     * @return the space for the key
+     */
+    public long getFreeSpace(ItemStackKey key) {
+        long space = 0;
+        for (int i = 0; i < this.originalSlots.length; i++) {
+            initSlot(i);
+            OverlayedItemHandlerSlot slot = this.originalSlots[i];
+            if (slot.getItemStackKey() == key || slot.getItemStackKey() == null) {
+                space += Math.max(0, slot.slotLimit - slot.count);
+            }
+        }
+        return space;
+    }
+
     public int insertStackedItemStackKey(ItemStackKey key, int amountToInsert) {
         int lastKnownPopulatedSlot = 0;
         //loop through all slots, looking for ones matching the key
@@ -114,12 +135,6 @@ public class OverlayedItemHandler {
             }
         }
 
-        OverlayedItemHandlerSlot(ItemStackKey itemStackKey, int slotLimit, int count) {
-            this.itemStackKey = itemStackKey;
-            this.count = count;
-            this.slotLimit = slotLimit;
-        }
-
         public int getSlotLimit() {
             return slotLimit;
         }
@@ -143,8 +158,10 @@ public class OverlayedItemHandler {
             this.count = count;
         }
 
-        OverlayedItemHandlerSlot copy() {
-            return new OverlayedItemHandlerSlot(this.itemStackKey, this.slotLimit, this.count);
+        void setFrom(OverlayedItemHandlerSlot slot) {
+            this.itemStackKey = slot.itemStackKey;
+            this.count = slot.count;
+            this.slotLimit = slot.slotLimit;
         }
     }
 }
@@ -0,0 +1,219 @@
+package gregtech.api.util;
+
+import gregtech.api.GTValues;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * Attributes server tick time to meta tile entity types, traits, covers and pipe nets,
+ * aggregated per dimension and chunk. The time of a meta tile entity includes the time of its traits and covers.
+ * <p>
+ * Only randomly chosen world ticks are measured, one in {@link #getSampleInterval()} on average,
+ * so the profiler can stay enabled on a live server. Random sampling avoids aliasing with work which
+ * is only done every n-th tick.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class TickProfiler {
+
+    public static final String META_TILE_ENTITY = "MetaTileEntity";
+    public static final String TRAIT = "Trait";
+    public static final String COVER = "Cover";
+    public static final String PIPE_NET = "PipeNet";
+
+    private static final Int2ObjectMap<Long2ObjectMap<Map<Object, Entry>>> entriesByDimension = new Int2ObjectOpenHashMap<>();
+    private static final Int2IntOpenHashMap sampledTicksByDimension = new Int2IntOpenHashMap();
+
+    private static boolean isRunning;
+    private static int sampleInterval = 1;
+    private static World sampledWorld;
+
+    private TickProfiler() {/**/}
+
+    public static boolean isRunning() {
+        return isRunning;
+    }
+
+    public static int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Starts profiling, discarding all previous results
+     *
+     * @param sampleInterval the average amount of ticks per measured tick
+     */
+    public static void start(int sampleInterval) {
+        entriesByDimension.clear();
+        sampledTicksByDimension.clear();
+        TickProfiler.sampleInterval = Math.max(1, sampleInterval);
+        isRunning = true;
+    }
+
+    /**
+     * Stops profiling, keeping the results until the next start
+     */
+    public static void stop() {
+        isRunning = false;
+        sampledWorld = null;
+    }
+
+    /**
+     * @return true if the current tick of the world is measured
+     */
+    public static boolean isSampling(World world) {
+        return sampledWorld == world && world != null;
+    }
+
+    /**
+     * Records time spent in the current tick. Only call this if {@link #isSampling(World)} is true.
+     *
+     * @param world    the world the time was spent in
+     * @param pos      the position the time is attributed to
+     * @param category the category of the key, one of the constants of this class
+     * @param key      the profiled type, such as a meta tile entity id or a cover class
+     * @param nanos    the time spent in nanoseconds
+     */
+    public static void record(@Nonnull World world, @Nonnull BlockPos pos, @Nonnull String category, @Nonnull Object key, long nanos) {
+        record(world, ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), category, key, nanos);
+    }
+
+    /**
+     * @param chunkKey the chunk the time is attributed to, see {@link ChunkPos#asLong(int, int)}
+     * @see #record(World, BlockPos, String, Object, long)
+     */
+    public static void record(@Nonnull World world, long chunkKey, @Nonnull String category, @Nonnull Object key, long nanos) {
+        Long2ObjectMap<Map<Object, Entry>> entriesByChunk = entriesByDimension.get(world.provider.getDimension());
+        if (entriesByChunk == null) {
+            entriesByChunk = new Long2ObjectOpenHashMap<>();
+            entriesByDimension.put(world.provider.getDimension(), entriesByChunk);
+        }
+        Map<Object, Entry> entries = entriesByChunk.get(chunkKey);
+        if (entries == null) {
+            entries = new Object2ObjectOpenHashMap<>();
+            entriesByChunk.put(chunkKey, entries);
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(category, key, world.provider.getDimension(), chunkKey);
+            entries.put(key, entry);
+        }
+        entry.nanos += nanos;
+        entry.calls++;
+    }
+
+    /**
+     * Writes all results as a CSV file, sorted by total time. Chunk coordinates are written in chunk units.
+     *
+     * @param directory the directory to write the report to
+     * @return the written file
+     */
+    public static File writeReport(@Nonnull File directory) throws IOException {
+        List<Entry> sorted = new ArrayList<>();
+        for (Long2ObjectMap<Map<Object, Entry>> entriesByChunk : entriesByDimension.values()) {
+            for (Map<Object, Entry> entries : entriesByChunk.values()) {
+                sorted.addAll(entries.values());
+            }
+        }
+        sorted.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create directory " + directory);
+        }
+        File file = new File(directory, "profile-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("category,name,dimension,chunkX,chunkZ,totalNanos,calls,nanosPerTick,nanosPerCall");
+            writer.newLine();
+            for (Entry entry : sorted) {
+                int sampledTicks = Math.max(1, sampledTicksByDimension.get(entry.dimension));
+                writer.write(String.join(",",
+                        entry.category,
+                        entry.getName(),
+                        Integer.toString(entry.dimension),
+                        Integer.toString((int) entry.chunkKey),
+                        Integer.toString((int) (entry.chunkKey >>> 32)),
+                        Long.toString(entry.nanos),
+                        Integer.toString(entry.calls),
+                        Long.toString(entry.nanos / sampledTicks),
+                        Long.toString(entry.nanos / entry.calls)));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * @return the average nanoseconds per tick spent on each profiled type over all chunks, sorted by time
+     */
+    public static List<Map.Entry<String, Long>> getTotalsByType() {
+        Object2LongOpenHashMap<String> totals = new Object2LongOpenHashMap<>();
+        for (Int2ObjectMap.Entry<Long2ObjectMap<Map<Object, Entry>>> dimension : entriesByDimension.int2ObjectEntrySet()) {
+            int sampledTicks = Math.max(1, sampledTicksByDimension.get(dimension.getIntKey()));
+            for (Map<Object, Entry> entries : dimension.getValue().values()) {
+                for (Entry entry : entries.values()) {
+                    totals.addTo(entry.category + " " + entry.getName(), entry.nanos / sampledTicks);
+                }
+            }
+        }
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(totals.entrySet());
+        sorted.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        return sorted;
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onWorldTickStart(TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || !isRunning || event.world.isRemote) return;
+        if (sampleInterval == 1 || GTValues.RNG.nextInt(sampleInterval) == 0) {
+            sampledWorld = event.world;
+            sampledTicksByDimension.addTo(event.world.provider.getDimension(), 1);
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onWorldTickEnd(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) {
+            sampledWorld = null;
+        }
+    }
+
+    private static class Entry {
+
+        private final String category;
+        private final Object key;
+        private final int dimension;
+        private final long chunkKey;
+        private long nanos;
+        private int calls;
+
+        private Entry(String category, Object key, int dimension, long chunkKey) {
+            this.category = category;
+            this.key = key;
+            this.dimension = dimension;
+            this.chunkKey = chunkKey;
+        }
+
+        private String getName() {
+            return key instanceof Class ? ((Class<?>) key).getName() : key.toString();
+        }
+    }
+}
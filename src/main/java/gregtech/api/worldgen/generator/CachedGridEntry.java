@@ -2,6 +2,7 @@ package gregtech.api.worldgen.generator;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gnu.trove.iterator.TLongIterator;
 import gnu.trove.list.TLongList;
 import gnu.trove.list.array.TLongArrayList;
@@ -30,11 +31,15 @@ import org.apache.commons.lang3.tuple.MutablePair;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IBlockModifierAccess {
 
     private static final Map<World, Cache<Long, CachedGridEntry>> gridEntryCache = new WeakHashMap<>();
+    private static ExecutorService veinPlanningExecutor;
 
     public static CachedGridEntry getOrCreateEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
         Cache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
@@ -42,16 +47,47 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
             currentValue = createGridCache();
             gridEntryCache.put(world, currentValue);
         }
-        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+        Long gridEntryKey = getGridEntryKey(gridX, gridZ);
         CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
         if (gridEntry == null) {
-            gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
+            if (isAsyncVeinPlanning()) {
+                gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ, false);
+                gridEntry.veinPlanning = CompletableFuture.runAsync(gridEntry::triggerVeinsGeneration, getVeinPlanningExecutor());
+            } else {
+                gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
+            }
             currentValue.put(gridEntryKey, gridEntry);
         }
         return gridEntry;
     }
 
+    private static Long getGridEntryKey(int gridX, int gridZ) {
+        return (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+    }
+
+    private static boolean isAsyncVeinPlanning() {
+        return ConfigHolder.worldgen.veinPlanningThreads > 0;
+    }
+
+    private static synchronized ExecutorService getVeinPlanningExecutor() {
+        if (veinPlanningExecutor == null) {
+            veinPlanningExecutor = Executors.newFixedThreadPool(ConfigHolder.worldgen.veinPlanningThreads, new ThreadFactoryBuilder()
+                    .setNameFormat("GregTech Vein Planner #%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return veinPlanningExecutor;
+    }
+
     private static Cache<Long, CachedGridEntry> createGridCache() {
+        if (isAsyncVeinPlanning()) {
+            // entries are weighed again by their planned blocks once planning is done
+            return CacheBuilder.newBuilder()
+                    .maximumWeight(ConfigHolder.worldgen.maxPlannedOreBlocks)
+                    .<Long, CachedGridEntry>weigher((key, entry) -> entry.getPlannedBlockCount() + 1)
+                    .expireAfterAccess(5L, TimeUnit.MINUTES)
+                    .build();
+        }
         return CacheBuilder.newBuilder()
                 .maximumSize(300)
                 .expireAfterAccess(5L, TimeUnit.MINUTES)
@@ -77,8 +113,19 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
 
     private int veinCenterX, veinCenterY, veinCenterZ;
     private OreDepositDefinition currentOreVein;
+    private int plannedBlockCount;
+    private CompletableFuture<Void> veinPlanning;
 
     public CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        this(world, gridX, gridZ, primerChunkX, primerChunkZ, true);
+    }
+
+    /**
+     * Everything depending on the world is read here, so veins can be planned on any thread afterwards
+     *
+     * @param planVeins whether to plan the veins immediately
+     */
+    private CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ, boolean planVeins) {
         this.gridX = gridX;
         this.gridZ = gridZ;
         long worldSeed = world.getSeed();
@@ -105,7 +152,9 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
             this.masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
         }
 
-        triggerVeinsGeneration();
+        if (planVeins) {
+            triggerVeinsGeneration();
+        }
     }
 
     private static BlockPos findOptimalSpot(int gridX, int gridZ, int chunkX, int chunkZ) {
@@ -169,7 +218,27 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return veinGeneratedMap.get(definition);
     }
 
+    /**
+     * @return the amount of blocks planned for all chunks of this grid
+     */
+    public int getPlannedBlockCount() {
+        return plannedBlockCount;
+    }
+
+    private void awaitVeinPlanning(World world) {
+        if (veinPlanning != null) {
+            veinPlanning.join();
+            this.veinPlanning = null;
+            // put the entry again so the cache weighs its planned blocks
+            Cache<Long, CachedGridEntry> cache = gridEntryCache.get(world);
+            if (cache != null) {
+                cache.put(getGridEntryKey(gridX, gridZ), this);
+            }
+        }
+    }
+
     public boolean populateChunk(World world, int chunkX, int chunkZ, Random random) {
+        awaitVeinPlanning(world);
         long chunkId = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
         ChunkDataEntry chunkDataEntry = dataByChunkPos.get(chunkId);
         GTWorldGenCapability capability = retrieveCapability(world, chunkX, chunkZ);
@@ -303,6 +372,7 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
                 dataByChunkPos.put(chunkKey, dataEntry);
             }
             dataEntry.setBlock(localX, worldY, localZ, definition, index);
+            this.plannedBlockCount++;
         }
     }
 
@@ -56,6 +56,14 @@ public class WorldGeneratorImpl implements IWorldGenerator {
     private static void generateInternal(World world, int selfGridX, int selfGridZ, int chunkX, int chunkZ, Random random) {
         int halfSizeX = (GRID_SIZE_X - 1) / 2;
         int halfSizeZ = (GRID_SIZE_Z - 1) / 2;
+        if (ConfigHolder.worldgen.veinPlanningThreads > 0) {
+            // create all entries first, so new grids are planned on worker threads at the same time
+            for (int gridX = -halfSizeX; gridX <= halfSizeX; gridX++) {
+                for (int gridZ = -halfSizeZ; gridZ <= halfSizeZ; gridZ++) {
+                    CachedGridEntry.getOrCreateEntry(world, selfGridX + gridX, selfGridZ + gridZ, chunkX, chunkZ);
+                }
+            }
+        }
         for (int gridX = -halfSizeX; gridX <= halfSizeX; gridX++) {
             for (int gridZ = -halfSizeZ; gridZ <= halfSizeZ; gridZ++) {
                 CachedGridEntry cachedGridEntry = CachedGridEntry.getOrCreateEntry(world, selfGridX + gridX, selfGridZ + gridZ, chunkX, chunkZ);
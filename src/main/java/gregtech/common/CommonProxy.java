@@ -301,7 +301,9 @@ public class CommonProxy {
     @SubscribeEvent(priority = EventPriority.LOW)
     public static void runEarlyMaterialHandlers(RegistryEvent.Register<IRecipe> event) {
         GTLog.logger.info("Running early material handlers...");
+        GTRecipeManager.startBulkRegistration();
         OrePrefix.runMaterialHandlers();
+        GTRecipeManager.finishBulkRegistration();
     }
 
     //this is called last, so all mods finished registering their stuff, as example, CraftTweaker
@@ -309,7 +311,9 @@ public class CommonProxy {
     @SubscribeEvent(priority = EventPriority.LOWEST)
     public static void registerRecipesLowest(RegistryEvent.Register<IRecipe> event) {
         GTLog.logger.info("Running late material handlers...");
+        GTRecipeManager.startBulkRegistration();
         OrePrefix.runMaterialHandlers();
+        GTRecipeManager.finishBulkRegistration();
         GTRecipeManager.loadLatest();
 
         if (Loader.isModLoaded(GTValues.MODID_CT)) {
@@ -69,6 +69,11 @@ public class ConfigHolder {
                 "unless placed directly onto another pipe or cable.", "Default: true"})
         public boolean gt6StylePipesCables = true;
 
+        @Config.Comment({"Whether cables should record the energy passing through them once per tick, instead of once per transfer.",
+                "Energy transfer, cable heating and burning behave the same, but large cable networks with many generators need less time per tick.",
+                "Default: false"})
+        public boolean batchedCableFlow = false;
+
         @Config.Comment({"Divisor for Recipe Duration per Overclock.", "Default: 2.0"})
         @Config.RangeDouble(min = 2.0, max = 3.0)
         @Config.SlidingOption
@@ -94,6 +99,12 @@ public class ConfigHolder {
         @Config.RangeInt(min = 0)
         public int centralMonitorEuCost = 8;
 
+        @Config.Comment({"The amount of ticks between updates of the energy and machine progress shown by Digital Interface Covers.",
+                "Item and fluid contents are updated every 2 ticks regardless.",
+                "Higher values reduce the server time and bandwidth used by Central Monitors.", "Default: 5"})
+        @Config.RangeInt(min = 2, max = 20)
+        public int digitalInterfaceRefreshRate = 5;
+
         @Config.Comment({"Whether to play machine sounds while machines are active.", "Default: true"})
         public boolean machineSounds = true;
 
@@ -147,6 +158,18 @@ public class ConfigHolder {
 
         @Config.Comment({"Should all Stone Types drop unique Ore Item Blocks?", "Default: false (meaning only Stone, Netherrack, and Endstone"})
         public boolean allUniqueStoneTypes = false;
+
+        @Config.Comment({"Number of worker threads which plan the ore veins of new grid sections while chunks are populated.",
+                "Set to 0 to plan ore veins on the main thread.", "Default: 0"})
+        @Config.RangeInt(min = 0, max = 16)
+        @Config.RequiresMcRestart
+        public int veinPlanningThreads = 0;
+
+        @Config.Comment({"Maximum amount of planned ore blocks kept in memory when ore veins are planned on worker threads.",
+                "Grid sections exceeding this are evicted and planned again if needed.", "Default: 2000000"})
+        @Config.RangeInt(min = 10000)
+        @Config.RequiresMcRestart
+        public int maxPlannedOreBlocks = 2_000_000;
     }
 
     public static class RecipeOptions {
@@ -271,6 +294,23 @@ public class ConfigHolder {
         @Config.Comment({"Whether to give the terminal to new players on login", "Default: true"})
         public boolean spawnTerminal = true;
 
+        @Config.Comment({"Whether to compile RecipeMaps into a compact, immutable form for faster recipe lookups when the server starts.",
+                "Adding or removing recipes afterwards makes the affected RecipeMap fall back to the regular lookup.", "Default: false"})
+        public boolean freezeRecipeMaps = false;
+
+        @Config.Comment({"Whether to register GregTech's own recipes in bulk during startup, converting them to lookup entries on multiple threads.",
+                "Conflicting recipes are still detected and logged in the order they were added.", "Default: true"})
+        @Config.RequiresMcRestart
+        public boolean parallelRecipeLoading = true;
+
+        @Config.Comment({"Whether to send all GUI updates of an open GUI to its player in a single packet per tick, instead of one packet per update.", "Default: true"})
+        public boolean batchWidgetUpdates = true;
+
+        @Config.Comment({"The amount of ticks between updates of GUI text displays, such as multiblock status text, for each player viewing them.",
+                "Higher values reduce the server time and bandwidth used by players with open GUIs.", "Default: 5"})
+        @Config.RangeInt(min = 1, max = 20)
+        public int lowFrequencyWidgetSyncInterval = 5;
+
     }
 
     public static class ClientOptions {
@@ -0,0 +1,56 @@
+package gregtech.common.command;
+
+import gregtech.api.capability.GregtechTileCapabilities;
+import gregtech.api.capability.impl.AbstractRecipeLogic;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.WorldServer;
+
+import javax.annotation.Nonnull;
+
+public class CommandMachines extends CommandBase {
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "machines";
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.machines.usage";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @Override
+    public void execute(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args) {
+        for (WorldServer world : server.worlds) {
+            int sleeping = 0;
+            int awake = 0;
+            for (TileEntity tileEntity : world.loadedTileEntityList) {
+                if (!(tileEntity instanceof IGregTechTileEntity)) continue;
+                MetaTileEntity metaTileEntity = ((IGregTechTileEntity) tileEntity).getMetaTileEntity();
+                if (metaTileEntity == null) continue;
+                AbstractRecipeLogic recipeLogic = metaTileEntity.getCapability(GregtechTileCapabilities.CAPABILITY_RECIPE_LOGIC, null);
+                if (recipeLogic == null) continue;
+                if (recipeLogic.isSleeping()) {
+                    sleeping++;
+                } else {
+                    awake++;
+                }
+            }
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.machines.dimension",
+                    world.provider.getDimension(), sleeping, awake));
+        }
+    }
+}
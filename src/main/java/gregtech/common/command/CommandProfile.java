@@ -0,0 +1,88 @@
+package gregtech.common.command;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.util.TickProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class CommandProfile extends CommandBase {
+
+    private static final int DEFAULT_SAMPLE_INTERVAL = 10;
+    private static final int SUMMARY_LINES = 10;
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "profile";
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.profile.usage";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @Override
+    public void execute(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args) throws CommandException {
+        if (args.length == 0) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        switch (args[0]) {
+            case "start": {
+                int sampleInterval = args.length > 1 ? parseInt(args[1], 1) : DEFAULT_SAMPLE_INTERVAL;
+                TickProfiler.start(sampleInterval);
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.start", sampleInterval));
+                break;
+            }
+            case "stop": {
+                TickProfiler.stop();
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.stop"));
+                break;
+            }
+            case "dump": {
+                List<Map.Entry<String, Long>> totals = TickProfiler.getTotalsByType();
+                for (int i = 0; i < Math.min(SUMMARY_LINES, totals.size()); i++) {
+                    Map.Entry<String, Long> total = totals.get(i);
+                    sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.summary", total.getKey(), total.getValue()));
+                }
+                try {
+                    File file = TickProfiler.writeReport(server.getFile("gregtech/profiles"));
+                    sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.dump", file.getPath()));
+                } catch (IOException e) {
+                    GTLog.logger.error("Failed to write the tick profile", e);
+                    sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.dump_failed"));
+                }
+                break;
+            }
+            default:
+                throw new WrongUsageException(getUsage(sender));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<String> getTabCompletions(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, "start", "stop", "dump");
+        }
+        return Collections.emptyList();
+    }
+}
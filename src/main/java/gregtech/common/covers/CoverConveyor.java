@@ -133,7 +133,7 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
     public void update() {
         long timer = coverHolder.getOffsetTimer();
         if (timer % 5 == 0 && isWorkingAllowed && itemsLeftToTransferLastSecond > 0) {
-            TileEntity tileEntity = coverHolder.getWorld().getTileEntity(coverHolder.getPos().offset(attachedSide));
+            TileEntity tileEntity = coverHolder.getNeighbor(attachedSide);
             IItemHandler itemHandler = tileEntity == null ? null : tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, attachedSide.getOpposite());
             IItemHandler myItemHandler = coverHolder.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, attachedSide);
             if (itemHandler != null && myItemHandler != null) {
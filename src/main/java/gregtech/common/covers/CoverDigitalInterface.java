@@ -23,7 +23,9 @@ import gregtech.api.util.GTLog;
 import gregtech.api.util.Position;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.RenderUtil;
+import gregtech.common.ConfigHolder;
 import gregtech.common.terminal.app.prospector.widget.WidgetOreList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.OpenGlHelper;
@@ -33,12 +35,15 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
@@ -95,6 +100,7 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
     private boolean isWorkingEnabled = false;
     private long lastClickTime;
     private UUID lastClickUUID;
+    private final IntArrayList changedIndices = new IntArrayList(); // server-only
     // persistent data
     protected int slot = 0;
     protected MODE mode = MODE.PROXY;
@@ -236,7 +242,7 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
         packetBuffer.writeEnumValue(mode);
         packetBuffer.writeEnumValue(spin);
         packetBuffer.writeInt(slot);
-        syncAllInfo();
+        syncInfo(true, true, false);
         writeAllFluids(packetBuffer);
         writeAllItems(packetBuffer);
         packetBuffer.writeInt(maxItemCapability);
@@ -283,11 +289,31 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
 
     @Override
     public void update() {
-        if (!isRemote() && coverHolder.getOffsetTimer() % 2 ==0) {
-            syncAllInfo();
+        if (!isRemote()) {
+            long timer = coverHolder.getOffsetTimer();
+            boolean syncContents = timer % 2 == 0;
+            boolean syncProgress = timer % ConfigHolder.machines.digitalInterfaceRefreshRate == 0;
+            boolean syncPerSecond = timer % 20 == 0;
+            if ((syncContents || syncProgress || syncPerSecond) && isWatched()) {
+                syncInfo(syncContents, syncProgress, syncPerSecond);
+            }
         }
     }
 
+    /**
+     * Players starting to watch the covered block receive all info with the initial sync data,
+     * so nothing needs to be synced while no player is watching it.
+     *
+     * @return if the covered block is sent to any player
+     */
+    private boolean isWatched() {
+        World world = coverHolder.getWorld();
+        if (!(world instanceof WorldServer)) return true;
+        BlockPos pos = coverHolder.getPos();
+        PlayerChunkMapEntry entry = ((WorldServer) world).getPlayerChunkMap().getEntry(pos.getX() >> 4, pos.getZ() >> 4);
+        return entry != null && entry.isSentToPlayers();
+    }
+
     @Override
     public EnumActionResult onScrewdriverClick(EntityPlayer playerIn, EnumHand hand, CuboidRayTraceResult hitResult) {
         if (!this.coverHolder.getWorld().isRemote) {
@@ -475,8 +501,15 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
         return builder.build(this, player);
     }
 
-    private void syncAllInfo() {
-        if (mode == MODE.FLUID || (mode == MODE.PROXY && proxyMode[0] > 0)) {
+    /**
+     * Sends the info of the enabled modes which changed to the clients
+     *
+     * @param syncContents  if item and fluid contents should be synced
+     * @param syncProgress  if energy stored and machine progress should be synced
+     * @param syncPerSecond if the values sampled once per second should be synced
+     */
+    private void syncInfo(boolean syncContents, boolean syncProgress, boolean syncPerSecond) {
+        if (syncContents && (mode == MODE.FLUID || (mode == MODE.PROXY && proxyMode[0] > 0))) {
             boolean syncFlag = false;
             IFluidHandler fluidHandler = this.getFluidCapability();
             if (fluidHandler != null) {
@@ -485,7 +518,8 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                     fluids = new FluidTankProperties[fluidTankProperties.length];
                     syncFlag = true;
                 }
-                List<Integer> toUpdate = new ArrayList<>();
+                IntArrayList toUpdate = this.changedIndices;
+                toUpdate.clear();
                 for (int i = 0; i < fluidTankProperties.length; i++) {
                     FluidStack content = fluidTankProperties[i].getContents();
                     if (fluids[i] == null || (content == null && fluids[i].getContents() != null) || (content != null && fluids[i].getContents() == null) ||
@@ -504,13 +538,13 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                 if (syncFlag) writeUpdateData(GregtechDataCodes.UPDATE_FLUID, packetBuffer->{
                     packetBuffer.writeVarInt(fluids.length);
                     packetBuffer.writeVarInt(toUpdate.size());
-                    for (Integer index : toUpdate) {
-                        writeFluid(packetBuffer, index);
+                    for (int i = 0; i < toUpdate.size(); i++) {
+                        writeFluid(packetBuffer, toUpdate.getInt(i));
                     }
                 });
             }
         }
-        if (mode == MODE.ITEM || (mode == MODE.PROXY && proxyMode[1] > 0)) {
+        if (syncContents && (mode == MODE.ITEM || (mode == MODE.PROXY && proxyMode[1] > 0))) {
             boolean syncFlag = false;
             IItemHandler itemHandler = this.getItemCapability();
             if(itemHandler != null) {
@@ -522,7 +556,8 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                         syncFlag = true;
                     }
                 }
-                List<Integer> toUpdate = new ArrayList<>();
+                IntArrayList toUpdate = this.changedIndices;
+                toUpdate.clear();
                 if (items.length != size) {
                     items = new ItemStack[size];
                     syncFlag = true;
@@ -542,7 +577,8 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                     packetBuffer.writeVarInt(maxItemCapability);
                     packetBuffer.writeVarInt(items.length);
                     packetBuffer.writeVarInt(toUpdate.size());
-                    for (Integer index : toUpdate) {
+                    for (int i = 0; i < toUpdate.size(); i++) {
+                        int index = toUpdate.getInt(i);
                         packetBuffer.writeVarInt(index);
                         packetBuffer.writeCompoundTag(fixItemStackSer(items[index]));
                     }
@@ -553,7 +589,7 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
             IEnergyContainer energyContainer = this.getEnergyCapability();
             if (energyContainer != null) {
                 // TODO, figure out what to do when values exceed Long.MAX_VALUE, ie with multiple Ultimate batteries
-                if (energyStored != energyContainer.getEnergyStored() || energyCapability != energyContainer.getEnergyCapacity()) {
+                if (syncProgress && (energyStored != energyContainer.getEnergyStored() || energyCapability != energyContainer.getEnergyCapacity())) {
                     energyStored = energyContainer.getEnergyStored();
                     energyCapability = energyContainer.getEnergyCapacity();
                     writeUpdateData(GregtechDataCodes.UPDATE_ENERGY, packetBuffer -> {
@@ -561,7 +597,7 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                         packetBuffer.writeLong(energyCapability);
                     });
                 }
-                if (this.coverHolder.getOffsetTimer() % 20 == 0) { //per second
+                if (syncPerSecond) {
                     writeUpdateData(GregtechDataCodes.UPDATE_ENERGY_PER, packetBuffer -> {
                         packetBuffer.writeLong(energyContainer.getInputPerSec());
                         packetBuffer.writeLong(energyContainer.getOutputPerSec());
@@ -582,7 +618,11 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                 int maxProgress = workable.getMaxProgress();
                 boolean isActive = workable.isActive();
                 boolean isWorkingEnable = workable.isWorkingEnabled();
-                if (isActive != this.isActive || isWorkingEnable != this.isWorkingEnabled || this.progress != progress || this.maxProgress != maxProgress) {
+                if (isActive != this.isActive || isWorkingEnable != this.isWorkingEnabled) {
+                    // state changes are shown at once, only the progress waits for the refresh rate
+                    syncProgress = true;
+                }
+                if (syncProgress && (isActive != this.isActive || isWorkingEnable != this.isWorkingEnabled || this.progress != progress || this.maxProgress != maxProgress)) {
                     this.progress = progress;
                     this.maxProgress = maxProgress;
                     this.isWorkingEnabled = isWorkingEnable;
@@ -594,7 +634,7 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                         packetBuffer.writeBoolean(isWorkingEnable);
                     });
                 }
-                if (this.coverHolder.getOffsetTimer() % 20 == 0) {
+                if (syncPerSecond) {
                     IEnergyContainer energyContainer = this.getEnergyCapability();
                     if (energyContainer != null) {
                         if (energyStored != energyContainer.getEnergyStored() || energyCapability != energyContainer.getEnergyCapacity()) {
@@ -6,18 +6,12 @@ import gregtech.api.gui.widgets.DrawableWidget;
 import gregtech.api.gui.widgets.ImageWidget;
 import gregtech.api.gui.widgets.OreDictFilterTestSlot;
 import gregtech.api.gui.widgets.TextFieldWidget2;
-import gregtech.api.util.ItemStackHashStrategy;
-import gregtech.api.util.OreDictExprFilter;
-import it.unimi.dsi.fastutil.Hash;
-import it.unimi.dsi.fastutil.objects.Object2BooleanOpenCustomHashMap;
+import gregtech.api.util.OreDictExprMatcher;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
@@ -37,14 +31,11 @@ public class OreDictionaryItemFilter extends ItemFilter {
     private boolean testResult;
     private ItemStack testStack = ItemStack.EMPTY;
 
-    private final List<OreDictExprFilter.MatchRule> matchRules = new ArrayList<>();
-    private static final Hash.Strategy<ItemStack> strategy = ItemStackHashStrategy.builder().compareItem(true).compareDamage(true).build();
-    private final Map<ItemStack, Boolean> recentlyChecked = new Object2BooleanOpenCustomHashMap<>(strategy);
+    private OreDictExprMatcher matcher = OreDictExprMatcher.get("");
 
     protected void setOreDictFilterExpression(String oreDictFilterExpression) {
         this.oreDictFilterExpression = oreDictFilterExpression;
-        OreDictExprFilter.parseExpression(matchRules, oreDictFilterExpression);
-        recentlyChecked.clear();
+        this.matcher = OreDictExprMatcher.get(oreDictFilterExpression);
         markDirty();
         updateTestMsg();
     }
@@ -166,15 +157,7 @@ public class OreDictionaryItemFilter extends ItemFilter {
     }
 
     public boolean matchesItemStack(ItemStack itemStack) {
-        Boolean b = recentlyChecked.get(itemStack);
-        if (b != null)
-            return b;
-        if (OreDictExprFilter.matchesOreDict(matchRules, itemStack)) {
-            recentlyChecked.put(itemStack, true);
-            return true;
-        }
-        recentlyChecked.put(itemStack, false);
-        return false;
+        return matcher.matches(itemStack);
     }
 
     @Override
@@ -200,6 +183,6 @@ public class OreDictionaryItemFilter extends ItemFilter {
     @Override
     public void readFromNBT(NBTTagCompound tagCompound) {
         this.oreDictFilterExpression = tagCompound.getString("OreDictionaryFilter");
-        OreDictExprFilter.parseExpression(this.matchRules, this.oreDictFilterExpression);
+        this.matcher = OreDictExprMatcher.get(this.oreDictFilterExpression);
     }
 }
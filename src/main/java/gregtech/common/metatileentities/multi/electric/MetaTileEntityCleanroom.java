@@ -147,6 +147,12 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
         super.checkStructurePattern();
     }
 
+    @Override
+    protected boolean shouldPollStructure() {
+        // the size of an unformed cleanroom depends on blocks outside its current pattern
+        return !isStructureFormed();
+    }
+
     /**
      * Scans for blocks around the controller to update the dimensions
      */
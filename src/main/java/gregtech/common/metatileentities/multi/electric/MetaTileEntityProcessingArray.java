@@ -122,6 +122,7 @@ public class MetaTileEntityProcessingArray extends RecipeMapMultiblockController
     @Override
     public void notifyMachineChanged() {
         machineChanged = true;
+        recipeMapWorkable.wakeUp();
     }
 
     @Override
@@ -110,7 +110,7 @@ public class MetaTileEntityCreativeChest extends MetaTileEntityQuantumChest {
         ItemStack stack = handler.getStackInSlot(0).copy();
         if (getWorld().isRemote || !active || stack.isEmpty()) return;
 
-        TileEntity tile = getWorld().getTileEntity(getPos().offset(this.getOutputFacing()));
+        TileEntity tile = getNeighbor(this.getOutputFacing());
         if (tile != null) {
             IItemHandler container = tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, this.getOutputFacing().getOpposite());
             if (container == null || container.getSlots() == 0)
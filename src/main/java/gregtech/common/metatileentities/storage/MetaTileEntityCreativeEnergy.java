@@ -169,7 +169,7 @@ public class MetaTileEntityCreativeEnergy extends MetaTileEntity implements IEne
         int ampsUsed = 0;
         for (EnumFacing facing : EnumFacing.values()) {
             EnumFacing opposite = facing.getOpposite();
-            TileEntity tile = getWorld().getTileEntity(getPos().offset(facing));
+            TileEntity tile = getNeighbor(facing);
             if (tile != null) {
                 IEnergyContainer container = tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, opposite);
                 if (container == null || !container.inputsEnergy(opposite) || container.getEnergyCanBeInserted() == 0)
@@ -7,6 +7,7 @@ import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.capability.IActiveOutputSide;
+import gregtech.api.capability.IBulkItemStorage;
 import gregtech.api.capability.impl.ItemHandlerList;
 import gregtech.api.capability.impl.ItemHandlerProxy;
 import gregtech.api.cover.ICoverable;
@@ -27,6 +28,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
@@ -68,6 +70,11 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
     private static final String NBT_ITEMCOUNT = "ItemAmount";
     protected IItemHandler outputItemInventory;
     private ItemHandlerList combinedInventory;
+    private QuantumChestItemHandler quantumChestItemHandler;
+    /**
+     * Set whenever the import slot, export slot or stored items change, so items only need to be moved around then
+     */
+    private boolean hasPendingTransfer = true;
 
     public MetaTileEntityQuantumChest(ResourceLocation metaTileEntityId, int tier, long maxStoredItems) {
         super(metaTileEntityId);
@@ -113,48 +120,80 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
     @Override
     public void update() {
         super.update();
-        EnumFacing currentOutputFacing = getOutputFacing();
         if (!getWorld().isRemote) {
-            if (itemsStoredInside < maxStoredItems) {
-                ItemStack inputStack = importItems.getStackInSlot(0);
-                ItemStack outputStack = exportItems.getStackInSlot(0);
-                if (outputStack.isEmpty() || outputStack.isItemEqual(inputStack) && ItemStack.areItemStackTagsEqual(inputStack, outputStack)) {
-                    if (!inputStack.isEmpty() && (itemStack.isEmpty() || areItemStackIdentical(itemStack, inputStack))) {
-                        int amountOfItemsToInsert = (int) Math.min(inputStack.getCount(), maxStoredItems - itemsStoredInside);
-                        if (this.itemsStoredInside == 0L || itemStack.isEmpty()) {
-                            this.itemStack = GTUtility.copyAmount(1, inputStack);
-                        }
-                        inputStack.shrink(amountOfItemsToInsert);
-                        importItems.setStackInSlot(0, inputStack);
-                        this.itemsStoredInside += amountOfItemsToInsert;
-                        markDirty();
-                    }
-                }
+            if (hasPendingTransfer) {
+                this.hasPendingTransfer = false;
+                transferInternalItems();
             }
-            if (itemsStoredInside > 0 && !itemStack.isEmpty()) {
-                ItemStack outputStack = exportItems.getStackInSlot(0);
-                int maxStackSize = itemStack.getMaxStackSize();
-                if (outputStack.isEmpty() || (areItemStackIdentical(itemStack, outputStack) && outputStack.getCount() < maxStackSize)) {
-                    int amountOfItemsToRemove = (int) Math.min(maxStackSize - outputStack.getCount(), itemsStoredInside);
-                    if (outputStack.isEmpty()) {
-                        outputStack = GTUtility.copyAmount(amountOfItemsToRemove, itemStack);
-                    } else outputStack.grow(amountOfItemsToRemove);
-                    exportItems.setStackInSlot(0, outputStack);
-                    this.itemsStoredInside -= amountOfItemsToRemove;
-                    if (this.itemsStoredInside == 0) {
-                        this.itemStack = ItemStack.EMPTY;
-                    }
+            if (isAutoOutputItems() && (itemsStoredInside > 0 || !exportItems.getStackInSlot(0).isEmpty())) {
+                pushItemsToOutput(getOutputFacing());
+            }
+        }
+    }
 
+    private void transferInternalItems() {
+        if (itemsStoredInside < maxStoredItems) {
+            ItemStack inputStack = importItems.getStackInSlot(0);
+            ItemStack outputStack = exportItems.getStackInSlot(0);
+            if (outputStack.isEmpty() || outputStack.isItemEqual(inputStack) && ItemStack.areItemStackTagsEqual(inputStack, outputStack)) {
+                if (!inputStack.isEmpty() && (itemStack.isEmpty() || areItemStackIdentical(itemStack, inputStack))) {
+                    int amountOfItemsToInsert = (int) Math.min(inputStack.getCount(), maxStoredItems - itemsStoredInside);
+                    if (this.itemsStoredInside == 0L || itemStack.isEmpty()) {
+                        this.itemStack = GTUtility.copyAmount(1, inputStack);
+                    }
+                    inputStack.shrink(amountOfItemsToInsert);
+                    importItems.setStackInSlot(0, inputStack);
+                    this.itemsStoredInside += amountOfItemsToInsert;
                     markDirty();
                 }
-
             }
-            if (isAutoOutputItems()) {
-                pushItemsIntoNearbyHandlers(currentOutputFacing);
+        }
+        if (itemsStoredInside > 0 && !itemStack.isEmpty()) {
+            ItemStack outputStack = exportItems.getStackInSlot(0);
+            int maxStackSize = itemStack.getMaxStackSize();
+            if (outputStack.isEmpty() || (areItemStackIdentical(itemStack, outputStack) && outputStack.getCount() < maxStackSize)) {
+                int amountOfItemsToRemove = (int) Math.min(maxStackSize - outputStack.getCount(), itemsStoredInside);
+                if (outputStack.isEmpty()) {
+                    outputStack = GTUtility.copyAmount(amountOfItemsToRemove, itemStack);
+                } else outputStack.grow(amountOfItemsToRemove);
+                exportItems.setStackInSlot(0, outputStack);
+                this.itemsStoredInside -= amountOfItemsToRemove;
+                if (this.itemsStoredInside == 0) {
+                    this.itemStack = ItemStack.EMPTY;
+                }
+
+                markDirty();
             }
+
+        }
+    }
+
+    /**
+     * Moves all items at once into neighbouring bulk storages, falling back to regular item transfer otherwise.
+     * Covers on the output side may filter or limit the transfer, so bulk transfer is only used without one.
+     * Covers on the side of the neighbour hide its bulk storage, see {@link MetaTileEntity#getCoverCapability(Capability, EnumFacing)}.
+     */
+    private void pushItemsToOutput(EnumFacing outputFacing) {
+        TileEntity tileEntity = getNeighbor(outputFacing);
+        IBulkItemStorage targetStorage = tileEntity == null || getCoverAtSide(outputFacing) != null ? null :
+                tileEntity.getCapability(GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE, outputFacing.getOpposite());
+        if (targetStorage == null) {
+            pushItemsIntoNearbyHandlers(outputFacing);
+            return;
+        }
+        ItemStack storedItem = quantumChestItemHandler.getStoredItem();
+        long amount = targetStorage.insertItems(storedItem, quantumChestItemHandler.getStoredAmount(), true);
+        if (amount > 0) {
+            amount = quantumChestItemHandler.extractItems(amount, false);
+            targetStorage.insertItems(storedItem, amount, false);
         }
     }
 
+    private void onStoredItemsChanged() {
+        this.hasPendingTransfer = true;
+        markDirty();
+    }
+
     private static boolean areItemStackIdentical(ItemStack first, ItemStack second) {
         return ItemStack.areItemsEqual(first, second) &&
                 ItemStack.areItemStackTagsEqual(first, second);
@@ -200,7 +239,8 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
     @Override
     protected void initializeInventory() {
         super.initializeInventory();
-        this.itemInventory = new QuantumChestItemHandler();
+        this.quantumChestItemHandler = new QuantumChestItemHandler();
+        this.itemInventory = quantumChestItemHandler;
         this.outputItemInventory = new ItemHandlerProxy(new ItemStackHandler(0), exportItems);
         List<IItemHandler> temp = new ArrayList<>();
         temp.add(outputItemInventory);
@@ -218,12 +258,22 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
                 if (compound == null) return true;
                 return !(compound.hasKey(NBT_ITEMSTACK, NBT.TAG_COMPOUND) || compound.hasKey("Fluid", NBT.TAG_COMPOUND)); //prevents inserting items with NBT to the Quantum Chest
             }
+
+            @Override
+            protected void onContentsChanged(int slot) {
+                onStoredItemsChanged();
+            }
         };
     }
 
     @Override
     protected IItemHandlerModifiable createExportItemHandler() {
-        return new ItemStackHandler(1);
+        return new ItemStackHandler(1) {
+            @Override
+            protected void onContentsChanged(int slot) {
+                onStoredItemsChanged();
+            }
+        };
     }
 
     @Override
@@ -378,6 +428,8 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
         }
         else if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY) {
             return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(combinedInventory);
+        } else if (capability == GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE) {
+            return GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE.cast(quantumChestItemHandler);
         }
         return super.getCapability(capability, side);
     }
@@ -440,7 +492,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
         }
     }
 
-    private class QuantumChestItemHandler implements IItemHandler {
+    private class QuantumChestItemHandler implements IItemHandler, IBulkItemStorage {
 
         @Override
         public int getSlots() {
@@ -456,13 +508,13 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
                 return ItemStack.EMPTY;
             }
             ItemStack resultStack = itemStack.copy();
-            resultStack.setCount((int) itemsStored);
+            resultStack.setCount((int) Math.min(itemsStored, Integer.MAX_VALUE));
             return resultStack;
         }
 
         @Override
         public int getSlotLimit(int slot) {
-            return (int) MetaTileEntityQuantumChest.this.maxStoredItems;
+            return (int) Math.min(MetaTileEntityQuantumChest.this.maxStoredItems, Integer.MAX_VALUE);
         }
 
         @Nonnull
@@ -479,6 +531,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
                 if (itemsStoredInside == 0L) {
                     MetaTileEntityQuantumChest.this.itemStack = ItemStack.EMPTY;
                 }
+                onStoredItemsChanged();
             }
             return extractedStack;
         }
@@ -541,9 +594,72 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
                 } else {
                     MetaTileEntityQuantumChest.this.itemsStoredInside += insertedAmount;
                 }
+                onStoredItemsChanged();
             }
             return remainingStack;
         }
+
+        @Nonnull
+        @Override
+        public ItemStack getStoredItem() {
+            if (!itemStack.isEmpty()) {
+                return GTUtility.copyAmount(1, itemStack);
+            }
+            ItemStack exportStack = exportItems.getStackInSlot(0);
+            return exportStack.isEmpty() ? ItemStack.EMPTY : GTUtility.copyAmount(1, exportStack);
+        }
+
+        @Override
+        public long getStoredAmount() {
+            return itemsStoredInside + exportItems.getStackInSlot(0).getCount();
+        }
+
+        @Override
+        public long getMaxStoredAmount() {
+            return maxStoredItems;
+        }
+
+        @Override
+        public long insertItems(@Nonnull ItemStack item, long amount, boolean simulate) {
+            if (item.isEmpty() || amount <= 0 || !importItems.isItemValid(0, item)) {
+                return 0;
+            }
+            ItemStack storedItem = getStoredItem();
+            if (!storedItem.isEmpty() && !areItemStackIdentical(storedItem, item)) {
+                return 0;
+            }
+            long insertedAmount = Math.min(amount, maxStoredItems - itemsStoredInside);
+            if (insertedAmount > 0 && !simulate) {
+                if (itemStack.isEmpty()) {
+                    MetaTileEntityQuantumChest.this.itemStack = GTUtility.copyAmount(1, item);
+                }
+                MetaTileEntityQuantumChest.this.itemsStoredInside += insertedAmount;
+                onStoredItemsChanged();
+            }
+            return insertedAmount;
+        }
+
+        @Override
+        public long extractItems(long amount, boolean simulate) {
+            if (amount <= 0) {
+                return 0;
+            }
+            long extractedFromStorage = Math.min(amount, itemsStoredInside);
+            int extractedFromExport = (int) Math.min(amount - extractedFromStorage, exportItems.getStackInSlot(0).getCount());
+            if (!simulate) {
+                if (extractedFromStorage > 0) {
+                    MetaTileEntityQuantumChest.this.itemsStoredInside -= extractedFromStorage;
+                    if (itemsStoredInside == 0L) {
+                        MetaTileEntityQuantumChest.this.itemStack = ItemStack.EMPTY;
+                    }
+                    onStoredItemsChanged();
+                }
+                if (extractedFromExport > 0) {
+                    exportItems.extractItem(0, extractedFromExport, false);
+                }
+            }
+            return extractedFromStorage + extractedFromExport;
+        }
     }
 
     @Override
@@ -120,9 +120,12 @@ public class MetaTileEntityQuantumTank extends MetaTileEntity implements ITiered
             if (lockedFluid.getFluid() != null && !isLocked) {
                 setLocked(true);
             }
-            fillContainerFromInternalTank();
-            fillInternalTankFromFluidContainer();
-            if (isAutoOutputFluids()) {
+            // containers are only handled while one is inserted, and there is nothing to output while empty
+            if (!importItems.getStackInSlot(0).isEmpty()) {
+                fillContainerFromInternalTank();
+                fillInternalTankFromFluidContainer();
+            }
+            if (isAutoOutputFluids() && fluidTank.getFluidAmount() > 0) {
                 pushFluidsIntoNearbyHandlers(currentOutputFacing);
             }
         }
@@ -0,0 +1,110 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.GTValues;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the energy sent through each {@link RoutePath} during a tick, and records it on the cables once at the end of the tick.
+ * <p>
+ * Cables only heat up from the amperage of the previous tick, and the heat is only applied by a scheduled task,
+ * so recording the flow at the end of the tick has the same result as recording every transfer immediately.
+ * This runs before the {@link gregtech.api.util.TaskScheduler} handles the tick, so the heat is applied in the same tick.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class EnergyFlowScheduler {
+
+    private static final Map<World, EnergyFlowScheduler> schedulersPerWorld = new HashMap<>();
+
+    private final Map<RoutePath, PathFlow> flowByPath = new Reference2ObjectOpenHashMap<>();
+    private final List<PathFlow> flows = new ObjectArrayList<>();
+
+    /**
+     * Records energy sent through a path during this tick
+     *
+     * @param world   the world of the path
+     * @param path    the path the energy was sent through
+     * @param voltage the voltage the energy was sent with, before any loss
+     * @param amps    the amperage which was sent
+     */
+    public static void scheduleFlow(World world, RoutePath path, long voltage, long amps) {
+        schedulersPerWorld.computeIfAbsent(world, k -> new EnergyFlowScheduler()).addFlow(path, voltage, amps);
+    }
+
+    private void addFlow(RoutePath path, long voltage, long amps) {
+        PathFlow flow = flowByPath.get(path);
+        // paths are almost always used with a single voltage, other voltages are chained
+        while (flow != null && flow.voltage != voltage) {
+            if (flow.next == null) {
+                flow.next = new PathFlow(path, voltage);
+                flows.add(flow.next);
+            }
+            flow = flow.next;
+        }
+        if (flow == null) {
+            flow = new PathFlow(path, voltage);
+            flowByPath.put(path, flow);
+            flows.add(flow);
+        }
+        flow.amps += amps;
+        flow.transfers++;
+    }
+
+    private void flush() {
+        for (PathFlow flow : flows) {
+            long voltageTraveled = flow.voltage;
+            for (TileEntityCable cable : flow.path.getPath()) {
+                voltageTraveled -= cable.getNodeData().getLossPerBlock();
+                if (voltageTraveled <= 0)
+                    break;
+                if (!cable.isInvalid()) {
+                    cable.incrementAmperage(flow.amps, voltageTraveled, flow.transfers);
+                }
+            }
+        }
+        flows.clear();
+        flowByPath.clear();
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            schedulersPerWorld.remove(event.getWorld());
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+            EnergyFlowScheduler scheduler = schedulersPerWorld.get(event.world);
+            if (scheduler != null) {
+                scheduler.flush();
+            }
+        }
+    }
+
+    private static class PathFlow {
+
+        private final RoutePath path;
+        private final long voltage;
+        private long amps;
+        private int transfers;
+        private PathFlow next;
+
+        private PathFlow(RoutePath path, long voltage) {
+            this.path = path;
+            this.voltage = voltage;
+        }
+    }
+}
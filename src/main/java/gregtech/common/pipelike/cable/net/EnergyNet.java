@@ -3,8 +3,13 @@ package gregtech.common.pipelike.cable.net;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.pipenet.tile.IPipeTile;
 import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
@@ -15,8 +20,11 @@ public class EnergyNet extends PipeNet<WireProperties> {
     private long lastEnergyFluxPerSec;
     private long energyFluxPerSec;
     private long lastTime;
+    private long nodeRemovals;
 
     private final Map<BlockPos, List<RoutePath>> NET_DATA = new HashMap<>();
+    // path to every pipe reached from a source in NET_DATA, keyed by the pipe position
+    private final Map<BlockPos, Long2ObjectMap<TileEntityCable[]>> PIPE_PATHS = new HashMap<>();
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
@@ -25,17 +33,89 @@ public class EnergyNet extends PipeNet<WireProperties> {
     public List<RoutePath> getNetData(BlockPos pipePos) {
         List<RoutePath> data = NET_DATA.get(pipePos);
         if (data == null) {
-            data = EnergyNetWalker.createNetData(getWorldData(), pipePos);
+            Long2ObjectMap<TileEntityCable[]> pipePaths = new Long2ObjectOpenHashMap<>();
+            data = EnergyNetWalker.createNetData(getWorldData(), pipePos, pipePaths);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
             data.sort(Comparator.comparingInt(RoutePath::getDistance));
             NET_DATA.put(pipePos, data);
+            PIPE_PATHS.put(pipePos, pipePaths);
         }
         return data;
     }
 
+    /**
+     * Updates the cached routes after the block at a position changed.
+     * Sources with routes passing through the position are walked again on their next use.
+     * For every other source, routes ending at the position are replaced by the routes
+     * to the handler now at the position, if there is one.
+     *
+     * @param changedPos the position of the changed block
+     */
+    private void updateRoutesTo(BlockPos changedPos) {
+        if (NET_DATA.isEmpty()) return;
+        World world = getWorldData();
+        if (world == null || world.getTileEntity(changedPos) instanceof IPipeTile) {
+            // pipes change the shape of the net
+            clearRoutes();
+            return;
+        }
+        long changedKey = changedPos.toLong();
+        Iterator<Map.Entry<BlockPos, List<RoutePath>>> iterator = NET_DATA.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<BlockPos, List<RoutePath>> entry = iterator.next();
+            Long2ObjectMap<TileEntityCable[]> pipePaths = PIPE_PATHS.get(entry.getKey());
+            if (pipePaths == null || pipePaths.containsKey(changedKey)) {
+                iterator.remove();
+                PIPE_PATHS.remove(entry.getKey());
+                continue;
+            }
+
+            // the cached list may be iterated right now, so a new list is created
+            List<RoutePath> oldRoutes = entry.getValue();
+            List<RoutePath> routes = new ArrayList<>(oldRoutes.size() + 1);
+            for (RoutePath route : oldRoutes) {
+                if (!route.getHandlerPos().equals(changedPos)) {
+                    routes.add(route);
+                }
+            }
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                BlockPos pipePos = changedPos.offset(facing);
+                TileEntityCable[] path = pipePaths.get(pipePos.toLong());
+                if (path == null) continue;
+                RoutePath route = EnergyNetWalker.createRoute(world, pipePos, facing.getOpposite(), path);
+                if (route != null) {
+                    int index = routes.size();
+                    while (index > 0 && routes.get(index - 1).getDistance() > route.getDistance()) {
+                        index--;
+                    }
+                    routes.add(index, route);
+                }
+            }
+            entry.setValue(routes);
+        }
+    }
+
+    private void clearRoutes() {
+        NET_DATA.clear();
+        PIPE_PATHS.clear();
+    }
+
+    /**
+     * @return how many times a node was removed from this net, used to check if a cable may have been removed
+     */
+    public long getNodeRemovals() {
+        return nodeRemovals;
+    }
+
+    @Override
+    protected void removeNode(BlockPos nodePos) {
+        super.removeNode(nodePos);
+        nodeRemovals++;
+    }
+
     public long getEnergyFluxPerSec() {
         World world = getWorldData();
         if (world != null && !world.isRemote && (world.getTotalWorldTime() - lastTime) >= 20) {
@@ -56,19 +136,24 @@ public class EnergyNet extends PipeNet<WireProperties> {
 
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        updateRoutesTo(fromPos);
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
-        NET_DATA.clear();
+        clearRoutes();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos nodePos, EnumFacing side) {
+        updateRoutesTo(nodePos.offset(side));
     }
 
     @Override
     protected void transferNodeData(Map<BlockPos, Node<WireProperties>> transferredNodes, PipeNet<WireProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
-        NET_DATA.clear();
-        ((EnergyNet) parentNet).NET_DATA.clear();
+        clearRoutes();
+        ((EnergyNet) parentNet).clearRoutes();
     }
 
     @Override
@@ -3,6 +3,7 @@ package gregtech.common.pipelike.cable.net;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
+import gregtech.common.ConfigHolder;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.EnumFacing;
@@ -59,6 +60,7 @@ public class EnergyNetHandler implements IEnergyContainer {
         }
 
         long amperesUsed = 0L;
+        boolean batchedFlow = ConfigHolder.machines.batchedCableFlow;
         List<RoutePath> paths = net.getNetData(cable.getPos());
         outer:
         for (RoutePath path : paths) {
@@ -75,22 +77,26 @@ public class EnergyNetHandler implements IEnergyContainer {
             if (v <= 0)
                 continue;
 
-            for (TileEntityCable cable : path.getPath()) {
-                if (cable.getMaxVoltage() < voltage) {
-                    int heat = (int) (Math.log(GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) * 45 + 36.5);
-                    boolean cableBroken = false;
-                    for (TileEntityCable cable1 : path.getPath()) {
-                        cable1.applyHeat(heat);
-                        cableBroken |= cable1.isInvalid();
+            // if every cable can handle the voltage, there is nothing to check
+            if (voltage > path.getMinVoltage()) {
+                for (TileEntityCable cable : path.getPath()) {
+                    if (cable.getMaxVoltage() < voltage) {
+                        int heat = (int) (Math.log(GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) * 45 + 36.5);
+                        boolean cableBroken = false;
+                        for (TileEntityCable cable1 : path.getPath()) {
+                            cable1.applyHeat(heat);
+                            cableBroken |= cable1.isInvalid();
+                        }
+                        if (cableBroken) {
+                            // a cable burned away (or insulation melted)
+                            break outer;
+                        }
+                        v = Math.min(cable.getMaxVoltage(), v); // limit transfer to cables max and void rest
                     }
-                    if (cableBroken) {
-                        // a cable burned away (or insulation melted)
-                        break outer;
-                    }
-                    v = Math.min(cable.getMaxVoltage(), v); // limit transfer to cables max and void rest
                 }
             }
 
+            long nodeRemovals = net.getNodeRemovals();
             transfer = true;
             long amps = dest.acceptEnergyFromNetwork(facing, v, amperage - amperesUsed);
             transfer = false;
@@ -100,14 +106,27 @@ public class EnergyNetHandler implements IEnergyContainer {
 
             long voltageTraveled = voltage;
             boolean cableBroken = false;
-            for (TileEntityCable cable : path.getPath()) {
-                voltageTraveled -= cable.getNodeData().getLossPerBlock();
-                if (voltageTraveled <= 0)
-                    break;
-                if (cable.isInvalid()) {
-                    cableBroken = true;
-                } else {
-                    cable.incrementAmperage(amps, voltageTraveled);
+            if (batchedFlow) {
+                EnergyFlowScheduler.scheduleFlow(cable.getWorld(), path, voltage, amps);
+                // cables can only be invalid if any were removed from the net, for example by an exploding handler
+                if (net.getNodeRemovals() != nodeRemovals) {
+                    for (TileEntityCable cable : path.getPath()) {
+                        voltageTraveled -= cable.getNodeData().getLossPerBlock();
+                        if (voltageTraveled <= 0)
+                            break;
+                        cableBroken |= cable.isInvalid();
+                    }
+                }
+            } else {
+                for (TileEntityCable cable : path.getPath()) {
+                    voltageTraveled -= cable.getNodeData().getLossPerBlock();
+                    if (voltageTraveled <= 0)
+                        break;
+                    if (cable.isInvalid()) {
+                        cableBroken = true;
+                    } else {
+                        cable.incrementAmperage(amps, voltageTraveled);
+                    }
                 }
             }
 
@@ -120,7 +139,7 @@ public class EnergyNetHandler implements IEnergyContainer {
             if (amperage == amperesUsed)
                 break;
         }
-        net.addEnergyFluxPerSec(amperesUsed * voltage);
+        this.net.addEnergyFluxPerSec(amperesUsed * voltage);
         return amperesUsed;
     }
 
@@ -5,6 +5,7 @@ import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.pipenet.PipeNetWalker;
 import gregtech.api.pipenet.tile.IPipeTile;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -18,12 +19,49 @@ import java.util.List;
 public class EnergyNetWalker extends PipeNetWalker {
 
     public static List<RoutePath> createNetData(World world, BlockPos sourcePipe) {
+        return createNetData(world, sourcePipe, null);
+    }
+
+    /**
+     * @param pipePaths if not null, filled with the path to every walked pipe, keyed by the pipe position
+     */
+    public static List<RoutePath> createNetData(World world, BlockPos sourcePipe, @Nullable Long2ObjectMap<TileEntityCable[]> pipePaths) {
         EnergyNetWalker walker = new EnergyNetWalker(world, sourcePipe, 1, new ArrayList<>());
+        walker.pipePaths = pipePaths;
         walker.traversePipeNet();
         return walker.isFailed() ? null : walker.routes;
     }
 
+    /**
+     * Creates the route to a single handler, without walking the net.
+     *
+     * @param pipePos the pipe next to the handler
+     * @param facing  the face of the pipe towards the handler
+     * @param path    the path from the source to the pipe, including it
+     * @return the route, or null if there is no handler at this face of the pipe
+     */
+    @Nullable
+    public static RoutePath createRoute(World world, BlockPos pipePos, EnumFacing facing, TileEntityCable[] path) {
+        TileEntity pipeTile = world.getTileEntity(pipePos);
+        if (!(pipeTile instanceof TileEntityCable) || !((TileEntityCable) pipeTile).isConnected(facing)) {
+            return null;
+        }
+        TileEntity neighbourTile = world.getTileEntity(pipePos.offset(facing));
+        if (neighbourTile == null || neighbourTile instanceof IPipeTile) {
+            return null;
+        }
+        if (neighbourTile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, facing.getOpposite()) == null) {
+            return null;
+        }
+        int loss = 0;
+        for (TileEntityCable cable : path) {
+            loss += cable.getNodeData().getLossPerBlock();
+        }
+        return new RoutePath(pipePos.toImmutable(), facing, path, path.length, loss);
+    }
+
     private final List<RoutePath> routes;
+    private Long2ObjectMap<TileEntityCable[]> pipePaths;
     private TileEntityCable[] pipes = {};
     private int loss;
 
@@ -37,6 +75,7 @@ public class EnergyNetWalker extends PipeNetWalker {
         EnergyNetWalker walker = new EnergyNetWalker(world, nextPos, walkedBlocks, routes);
         walker.loss = loss;
         walker.pipes = pipes;
+        walker.pipePaths = pipePaths;
         return walker;
     }
 
@@ -44,6 +83,9 @@ public class EnergyNetWalker extends PipeNetWalker {
     protected void checkPipe(IPipeTile<?, ?> pipeTile, BlockPos pos) {
         pipes = ArrayUtils.add(pipes, (TileEntityCable) pipeTile);
         loss += ((TileEntityCable) pipeTile).getNodeData().getLossPerBlock();
+        if (pipePaths != null) {
+            pipePaths.put(pos.toLong(), pipes);
+        }
     }
 
     @Override
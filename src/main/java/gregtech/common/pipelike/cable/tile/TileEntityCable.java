@@ -115,6 +115,25 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
         return false;
     }
 
+    /**
+     * Should only be called internally.
+     * Same as calling {@link #incrementAmperage(long, long)} once per transfer, with {@code amps} being the sum of all transfers.
+     *
+     * @param transfers the amount of transfers
+     */
+    public void incrementAmperage(long amps, long voltage, int transfers) {
+        if (voltage > maxVoltageCounter.get(world)) {
+            maxVoltageCounter.set(world, voltage);
+        }
+        averageVoltageCounter.increment(world, voltage * transfers);
+        averageAmperageCounter.increment(world, amps);
+
+        int dif = (int) (averageAmperageCounter.getLast(world) - getMaxAmperage());
+        if (dif > 0) {
+            applyHeat(dif * 40 * transfers);
+        }
+    }
+
     public void applyHeat(int amount) {
         heatQueue += amount;
         if (!world.isRemote && !isTicking && temperature + heatQueue > getDefaultTemp()) {
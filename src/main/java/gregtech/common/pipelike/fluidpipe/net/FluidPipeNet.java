@@ -1,16 +1,92 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
+import gregtech.api.GTValues;
+import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 
-public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class FluidPipeNet extends PipeNet<FluidPipeProperties> implements ITickable {
+
+    // pipes holding fluid, keyed by their position. Only these pipes have to distribute fluid
+    private final Long2ObjectLinkedOpenHashMap<TileEntityFluidPipeTickable> activePipes = new Long2ObjectLinkedOpenHashMap<>();
+    private final List<TileEntityFluidPipeTickable> updatedPipes = new ArrayList<>();
+    // nets distribute on different ticks, so not all fluid in the world moves on the same tick
+    private final int updateOffset = GTValues.RNG.nextInt(TileEntityFluidPipe.FREQUENCY);
 
     public FluidPipeNet(WorldPipeNet<FluidPipeProperties, FluidPipeNet> world) {
         super(world);
     }
 
+    /**
+     * Adds a pipe holding fluid to the pipes distributing fluid each update
+     */
+    public void addActivePipe(TileEntityFluidPipeTickable pipe) {
+        activePipes.put(pipe.getPipePos().toLong(), pipe);
+    }
+
+    /**
+     * Distributes the fluid of all pipes holding fluid every {@link TileEntityFluidPipe#FREQUENCY} ticks.
+     * Pipes are removed once they are empty, unloaded or invalid.
+     * Pipes moved to another net on a split or merge are handed over by {@link #transferNodeData(Map, PipeNet)}.
+     */
+    @Override
+    public void update() {
+        if (activePipes.isEmpty()) return;
+        World world = getWorldData();
+        if ((world.getTotalWorldTime() + updateOffset) % TileEntityFluidPipe.FREQUENCY != 0) return;
+        // pipes receiving fluid are added while distributing, so the pipes are copied first
+        updatedPipes.addAll(activePipes.values());
+        for (TileEntityFluidPipeTickable pipe : updatedPipes) {
+            BlockPos pos = pipe.getPipePos();
+            if (pipe.isInvalid() || pipe.getWorld() != world || !world.isBlockLoaded(pos)) {
+                removeActivePipe(pipe);
+                continue;
+            }
+            if (!pipe.distributeFluids()) {
+                removeActivePipe(pipe);
+            }
+        }
+        updatedPipes.clear();
+    }
+
+    private void removeActivePipe(TileEntityFluidPipeTickable pipe) {
+        long key = pipe.getPipePos().toLong();
+        // a reloaded pipe replaces the old tile entity at the same position
+        if (activePipes.get(key) == pipe) {
+            activePipes.remove(key);
+            pipe.onRemovedFromNet();
+        }
+    }
+
+    @Override
+    protected void transferNodeData(Map<BlockPos, Node<FluidPipeProperties>> transferredNodes, PipeNet<FluidPipeProperties> parentNet) {
+        // the transferred nodes may be handed over to this net, so the active pipes are moved first
+        FluidPipeNet parentFluidNet = (FluidPipeNet) parentNet;
+        ObjectIterator<Long2ObjectMap.Entry<TileEntityFluidPipeTickable>> iterator = parentFluidNet.activePipes.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Long2ObjectMap.Entry<TileEntityFluidPipeTickable> entry = iterator.next();
+            if (transferredNodes.get(entry.getValue().getPipePos()) != null) {
+                activePipes.put(entry.getLongKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+        super.transferNodeData(transferredNodes, parentNet);
+    }
+
     @Override
     protected void writeNodeData(FluidPipeProperties nodeData, NBTTagCompound tagCompound) {
         tagCompound.setInteger("max_temperature", nodeData.getMaxFluidTemperature());
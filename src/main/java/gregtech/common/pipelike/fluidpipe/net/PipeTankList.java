@@ -77,6 +77,7 @@ public class PipeTankList implements IFluidHandler, Iterable<FluidTank> {
                 tank.setFluid(newFluid);
                 pipe.receivedFrom(facing);
                 pipe.checkAndDestroy(newFluid);
+                pipe.onFluidReceived();
             }
             return newFluid.amount;
         }
@@ -87,6 +88,7 @@ public class PipeTankList implements IFluidHandler, Iterable<FluidTank> {
                     currentFluid.amount += toAdd;
                     pipe.receivedFrom(facing);
                     pipe.checkAndDestroy(currentFluid);
+                    pipe.onFluidReceived();
                 }
                 return toAdd;
             }
@@ -1,10 +1,10 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
-import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.pipenet.tickable.TickableWorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
 import net.minecraft.world.World;
 
-public class WorldFluidPipeNet extends WorldPipeNet<FluidPipeProperties, FluidPipeNet> {
+public class WorldFluidPipeNet extends TickableWorldPipeNet<FluidPipeProperties, FluidPipeNet> {
 
     private static final String DATA_ID_BASE = "gregtech.fluid_pipe_net";
 
@@ -23,6 +23,12 @@ public class WorldFluidPipeNet extends WorldPipeNet<FluidPipeProperties, FluidPi
         super(name);
     }
 
+    @Override
+    protected int getUpdateRate() {
+        // each net only distributes every TileEntityFluidPipe.FREQUENCY ticks, with its own offset
+        return 1;
+    }
+
     @Override
     protected FluidPipeNet createNetInstance() {
         return new FluidPipeNet(this);
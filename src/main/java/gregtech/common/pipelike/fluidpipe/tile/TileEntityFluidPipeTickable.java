@@ -11,6 +11,7 @@ import gregtech.api.util.EntityDamageUtil;
 import gregtech.api.util.GTUtility;
 import gregtech.common.covers.CoverPump;
 import gregtech.common.covers.ManualImportExportMode;
+import gregtech.common.pipelike.fluidpipe.net.FluidPipeNet;
 import gregtech.common.pipelike.fluidpipe.net.PipeTankList;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.init.Blocks;
@@ -33,11 +34,11 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
-import org.apache.commons.lang3.tuple.MutableTriple;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
 
@@ -49,6 +50,12 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
     private FluidTank[] fluidTanks;
     private long timer = 0L;
     private final int offset = GTValues.RNG.nextInt(20);
+    private boolean isInNet;
+    private boolean isWaitingForNet;
+    // targets of the fluid distribution, reused as a pipe has at most six of them
+    private final IFluidHandler[] targetHandlers = new IFluidHandler[6];
+    private final IFluidHandler[] sourceHandlers = new IFluidHandler[6];
+    private final int[] targetAmounts = new int[6];
 
     public long getOffsetTimer() {
         return timer + offset;
@@ -70,31 +77,69 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
     public void update() {
         timer++;
         getCoverableImplementation().update();
-        if (!world.isRemote && getOffsetTimer() % FREQUENCY == 0) {
-            lastReceivedFrom &= 63;
-            if (lastReceivedFrom == 63) {
+        if (isWaitingForNet && !world.isRemote) {
+            addToNet();
+        }
+    }
+
+    /**
+     * Called by the {@link FluidPipeNet} every {@link #FREQUENCY} ticks while this pipe holds fluid
+     *
+     * @return false if this pipe is empty and does not need to distribute fluid anymore
+     */
+    public boolean distributeFluids() {
+        lastReceivedFrom &= 63;
+        if (lastReceivedFrom == 63) {
+            lastReceivedFrom = 0;
+        }
+
+        boolean shouldDistribute = (oldLastReceivedFrom == lastReceivedFrom);
+        boolean holdsFluid = false;
+        int tanks = getNodeData().getTanks();
+        for (int i = 0, j = GTValues.RNG.nextInt(tanks); i < tanks; i++) {
+            int index = (i + j) % tanks;
+            FluidTank tank = getFluidTanks()[index];
+            FluidStack fluid = tank.getFluid();
+            if (fluid == null)
+                continue;
+            if (fluid.amount <= 0) {
+                tank.setFluid(null);
+                continue;
+            }
+
+            if (shouldDistribute) {
+                distributeFluid(index, tank, fluid);
                 lastReceivedFrom = 0;
             }
+            holdsFluid |= tank.getFluidAmount() > 0;
+        }
+        oldLastReceivedFrom = lastReceivedFrom;
+        return holdsFluid;
+    }
 
-            boolean shouldDistribute = (oldLastReceivedFrom == lastReceivedFrom);
-            int tanks = getNodeData().getTanks();
-            for (int i = 0, j = GTValues.RNG.nextInt(tanks); i < tanks; i++) {
-                int index = (i + j) % tanks;
-                FluidTank tank = getFluidTanks()[index];
-                FluidStack fluid = tank.getFluid();
-                if (fluid == null)
-                    continue;
-                if (fluid.amount <= 0) {
-                    tank.setFluid(null);
-                    continue;
-                }
+    /**
+     * Called when fluid enters this pipe, so the pipe net starts distributing it
+     */
+    public void onFluidReceived() {
+        if (!isInNet && world != null && !world.isRemote) {
+            addToNet();
+        }
+    }
 
-                if (shouldDistribute) {
-                    distributeFluid(index, tank, fluid);
-                    lastReceivedFrom = 0;
-                }
-            }
-            oldLastReceivedFrom = lastReceivedFrom;
+    /**
+     * Called when the pipe net stops distributing the fluid of this pipe
+     */
+    public void onRemovedFromNet() {
+        this.isInNet = false;
+    }
+
+    private void addToNet() {
+        FluidPipeNet net = getFluidPipeNet();
+        // the net can be missing while the pipe is loaded, then it is added on its next tick
+        this.isWaitingForNet = net == null;
+        if (net != null) {
+            net.addActivePipe(this);
+            this.isInNet = true;
         }
     }
 
@@ -104,8 +149,7 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
     }
 
     private void distributeFluid(int channel, FluidTank tank, FluidStack fluid) {
-        // Tank, From, Amount to receive
-        List<MutableTriple<IFluidHandler, IFluidHandler, Integer>> tanks = new ArrayList<>();
+        int targets = 0;
         int amount = fluid.amount;
 
         FluidStack maxFluid = fluid.copy();
@@ -160,7 +204,9 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
             int filled = Math.min(fluidHandler.fill(maxFluid, false), drainable.amount);
 
             if (filled > 0) {
-                tanks.add(MutableTriple.of(fluidHandler, pipeTank, filled));
+                targetHandlers[targets] = fluidHandler;
+                sourceHandlers[targets] = pipeTank;
+                targetAmounts[targets++] = filled;
                 availableCapacity += filled;
             }
             maxFluid.amount = amount; // Because some mods do actually modify input fluid stack
@@ -173,25 +219,28 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         final double maxAmount = Math.min(getCapacityPerTank() / 2, fluid.amount);
 
         // Now distribute
-        for (MutableTriple<IFluidHandler, IFluidHandler, Integer> triple : tanks) {
+        for (int i = 0; i < targets; i++) {
+            int toFill = targetAmounts[i];
             if (availableCapacity > maxAmount) {
-                triple.setRight((int) Math.floor(triple.getRight() * maxAmount / availableCapacity)); // Distribute fluids based on percentage available space at destination
+                toFill = (int) Math.floor(toFill * maxAmount / availableCapacity); // Distribute fluids based on percentage available space at destination
             }
-            if (triple.getRight() == 0) {
+            if (toFill == 0) {
                 if (tank.getFluidAmount() <= 0) break; // If there is no more stored fluid, stop transferring to prevent dupes
-                triple.setRight(1); // If the percent is not enough to give at least 1L, try to give 1L
-            } else if (triple.getRight() < 0) {
+                toFill = 1; // If the percent is not enough to give at least 1L, try to give 1L
+            } else if (toFill < 0) {
                 continue;
             }
 
             FluidStack toInsert = fluid.copy();
-            toInsert.amount = triple.getRight();
+            toInsert.amount = toFill;
 
-            int inserted = triple.getLeft().fill(toInsert, true);
+            int inserted = targetHandlers[i].fill(toInsert, true);
             if (inserted > 0) {
-                triple.getMiddle().drain(inserted, true);
+                sourceHandlers[i].drain(inserted, true);
             }
         }
+        Arrays.fill(targetHandlers, null);
+        Arrays.fill(sourceHandlers, null);
     }
 
     public void checkAndDestroy(@Nonnull FluidStack stack) {
@@ -405,6 +454,8 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
             NBTTagCompound tag = list.getCompoundTagAt(i);
             if (!tag.getBoolean("isNull")) {
                 fluidTanks[i].setFluid(FluidStack.loadFluidStackFromNBT(tag));
+                // the world is not set yet, so the pipe is added to the net on its first tick
+                this.isWaitingForNet = true;
             }
         }
     }
@@ -9,6 +9,7 @@ import gregtech.api.util.ItemStackKey;
 import gregtech.common.covers.*;
 import gregtech.common.pipelike.itempipe.tile.TileEntityItemPipe;
 import gregtech.common.pipelike.itempipe.tile.TileEntityItemPipeTickable;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -20,6 +21,7 @@ import net.minecraftforge.items.ItemStackHandler;
 
 import javax.annotation.Nonnull;
 import java.util.*;
+import java.util.function.Predicate;
 
 public class ItemNetHandler implements IItemHandler {
 
@@ -31,6 +33,8 @@ public class ItemNetHandler implements IItemHandler {
     private final Map<FacingPos, Integer> simulatedTransfersGlobalRoundRobin = new HashMap<>();
     private int simulatedTransfers = 0;
     private final ItemStackHandler testHandler = new ItemStackHandler(1);
+    // results of the filters tested for the stack currently inserted, destinations behind the same covers share their filters
+    private final Reference2BooleanOpenHashMap<Predicate<ItemStack>> filterResults = new Reference2BooleanOpenHashMap<>();
 
     public ItemNetHandler(ItemPipeNet net, TileEntityItemPipe pipe, EnumFacing facing) {
         this.net = net;
@@ -103,6 +107,7 @@ public class ItemNetHandler implements IItemHandler {
     }
 
     public ItemStack insertFirst(ItemStack stack, boolean simulate) {
+        filterResults.clear();
         for (ItemPipeNet.Inventory inv : net.getNetData(pipe.getPipePos(), facing)) {
             stack = insert(inv, stack, simulate);
             if (stack.isEmpty())
@@ -112,6 +117,7 @@ public class ItemNetHandler implements IItemHandler {
     }
 
     public ItemStack insertRoundRobin(ItemStack stack, boolean simulate, boolean global) {
+        filterResults.clear();
         List<ItemPipeNet.Inventory> handlers = net.getNetData(pipe.getPipePos(), facing);
         if (handlers.size() == 0)
             return stack;
@@ -293,7 +299,7 @@ public class ItemNetHandler implements IItemHandler {
 
     public ItemStack insert(ItemPipeNet.Inventory handler, ItemStack stack, boolean simulate, boolean ignoreLimit) {
         int allowed = ignoreLimit ? stack.getCount() : checkTransferable(handler.getProperties().getTransferRate(), stack.getCount(), simulate);
-        if (allowed == 0 || !handler.matchesFilters(stack)) {
+        if (allowed == 0 || !matchesFilters(handler, stack)) {
             return stack;
         }
         CoverBehavior pipeCover = getCoverOnPipe(handler.getPipePos(), handler.getFaceToHandler());
@@ -335,6 +341,25 @@ public class ItemNetHandler implements IItemHandler {
         return remainder;
     }
 
+    /**
+     * Tests the filters of a destination, every filter is only tested once per inserted stack
+     */
+    private boolean matchesFilters(ItemPipeNet.Inventory handler, ItemStack stack) {
+        for (Predicate<ItemStack> filter : handler.getFilters()) {
+            boolean matches;
+            if (filterResults.containsKey(filter)) {
+                matches = filterResults.getBoolean(filter);
+            } else {
+                matches = filter.test(stack);
+                filterResults.put(filter, matches);
+            }
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public CoverBehavior getCoverOnPipe(BlockPos pos, EnumFacing handlerFacing) {
         TileEntity tile = pipe.getWorld().getTileEntity(pos);
         if (tile instanceof TileEntityItemPipe) {
@@ -9,6 +9,7 @@ import gregtech.common.covers.CoverItemFilter;
 import gregtech.common.covers.CoverShutter;
 import gregtech.common.covers.ItemFilterMode;
 import gregtech.common.pipelike.itempipe.tile.TileEntityItemPipe;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -26,19 +27,54 @@ import java.util.function.Predicate;
 public class ItemNetWalker extends PipeNetWalker {
 
     public static List<ItemPipeNet.Inventory> createNetData(World world, BlockPos sourcePipe, EnumFacing faceToSourceHandler) {
+        return createNetData(world, sourcePipe, faceToSourceHandler, null);
+    }
+
+    /**
+     * @param walkedPipes if not null, filled with the state of the walk at every walked pipe, keyed by the pipe position
+     */
+    public static List<ItemPipeNet.Inventory> createNetData(World world, BlockPos sourcePipe, EnumFacing faceToSourceHandler, @Nullable Long2ObjectMap<WalkedPipe> walkedPipes) {
         ItemNetWalker walker = new ItemNetWalker(world, sourcePipe, 1, new ArrayList<>(), null);
         walker.sourcePipe = sourcePipe;
         walker.facingToHandler = faceToSourceHandler;
+        walker.walkedPipes = walkedPipes;
         walker.traversePipeNet();
         return walker.isFailed() ? null : walker.inventories;
     }
 
+    /**
+     * Creates the inventory of a single handler, without walking the net.
+     *
+     * @param pipePos    the pipe next to the handler
+     * @param facing     the face of the pipe towards the handler
+     * @param walkedPipe the state of the walk at the pipe
+     * @return the inventory, or null if there is no handler at this face of the pipe
+     */
+    @Nullable
+    public static ItemPipeNet.Inventory createInventory(World world, BlockPos pipePos, EnumFacing facing, WalkedPipe walkedPipe) {
+        TileEntity pipeTile = world.getTileEntity(pipePos);
+        if (!(pipeTile instanceof TileEntityItemPipe) || !((TileEntityItemPipe) pipeTile).isConnected(facing)) {
+            return null;
+        }
+        TileEntity neighbourTile = world.getTileEntity(pipePos.offset(facing));
+        if (neighbourTile == null || neighbourTile instanceof IPipeTile) {
+            return null;
+        }
+        if (neighbourTile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite()) == null) {
+            return null;
+        }
+        return new ItemPipeNet.Inventory(pipePos.toImmutable(), facing, walkedPipe.distance, walkedPipe.properties, walkedPipe.filters);
+    }
+
     private ItemPipeProperties minProperties;
     private final List<ItemPipeNet.Inventory> inventories;
     private final List<Predicate<ItemStack>> filters = new ArrayList<>();
     private final EnumMap<EnumFacing, List<Predicate<ItemStack>>> nextFilters = new EnumMap<>(EnumFacing.class);
     private BlockPos sourcePipe;
     private EnumFacing facingToHandler;
+    private Long2ObjectMap<WalkedPipe> walkedPipes;
+    // filters of the current pipe, shared by all inventories found next to it
+    private List<Predicate<ItemStack>> pipeFilters;
 
     protected ItemNetWalker(World world, BlockPos sourcePipe, int distance, List<ItemPipeNet.Inventory> inventories, ItemPipeProperties properties) {
         super(world, sourcePipe, distance);
@@ -51,6 +87,7 @@ public class ItemNetWalker extends PipeNetWalker {
         ItemNetWalker walker = new ItemNetWalker(world, nextPos, walkedBlocks, inventories, minProperties);
         walker.facingToHandler = facingToHandler;
         walker.sourcePipe = sourcePipe;
+        walker.walkedPipes = walkedPipes;
         walker.filters.addAll(filters);
         List<Predicate<ItemStack>> moreFilters = nextFilters.get(facingToNextPos);
         if (moreFilters != null && !moreFilters.isEmpty()) {
@@ -73,6 +110,10 @@ public class ItemNetWalker extends PipeNetWalker {
         } else {
             minProperties = new ItemPipeProperties(minProperties.getPriority() + pipeProperties.getPriority(), Math.min(minProperties.getTransferRate(), pipeProperties.getTransferRate()));
         }
+        pipeFilters = new ArrayList<>(filters);
+        if (walkedPipes != null) {
+            walkedPipes.put(pos.toLong(), new WalkedPipe(getWalkedBlocks(), minProperties, pipeFilters));
+        }
     }
 
     @Override
@@ -82,9 +123,10 @@ public class ItemNetWalker extends PipeNetWalker {
         }
         IItemHandler handler = neighbourTile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, faceToNeighbour.getOpposite());
         if (handler != null) {
-            List<Predicate<ItemStack>> filters = new ArrayList<>(this.filters);
+            List<Predicate<ItemStack>> filters = pipeFilters;
             List<Predicate<ItemStack>> moreFilters = nextFilters.get(faceToNeighbour);
             if (moreFilters != null && !moreFilters.isEmpty()) {
+                filters = new ArrayList<>(filters);
                 filters.addAll(moreFilters);
             }
             inventories.add(new ItemPipeNet.Inventory(new BlockPos(pipePos), faceToNeighbour, getWalkedBlocks(), minProperties, filters));
@@ -114,4 +156,20 @@ public class ItemNetWalker extends PipeNetWalker {
         }
         return true;
     }
+
+    /**
+     * The state of a walk when it reached a pipe, used to create inventories next to the pipe later on
+     */
+    public static class WalkedPipe {
+
+        private final int distance;
+        private final ItemPipeProperties properties;
+        private final List<Predicate<ItemStack>> filters;
+
+        private WalkedPipe(int distance, ItemPipeProperties properties, List<Predicate<ItemStack>> filters) {
+            this.distance = distance;
+            this.properties = properties;
+            this.filters = filters;
+        }
+    }
 }
@@ -3,8 +3,11 @@ package gregtech.common.pipelike.itempipe.net;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.pipenet.tile.IPipeTile;
 import gregtech.api.unification.material.properties.ItemPipeProperties;
 import gregtech.api.util.FacingPos;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -19,41 +22,111 @@ import java.util.function.Predicate;
 
 public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
 
-    private final Map<BlockPos, List<Inventory>> NET_DATA = new HashMap<>();
+    private final Map<FacingPos, List<Inventory>> NET_DATA = new HashMap<>();
+    // walk state at every pipe reached from a source in NET_DATA, keyed by the pipe position
+    private final Map<FacingPos, Long2ObjectMap<ItemNetWalker.WalkedPipe>> WALKED_PIPES = new HashMap<>();
 
     public ItemPipeNet(WorldPipeNet<ItemPipeProperties, ? extends PipeNet<ItemPipeProperties>> world) {
         super(world);
     }
 
     public List<Inventory> getNetData(BlockPos pipePos, EnumFacing facing) {
-        List<Inventory> data = NET_DATA.get(pipePos);
+        FacingPos source = new FacingPos(pipePos, facing);
+        List<Inventory> data = NET_DATA.get(source);
         if (data == null) {
-            data = ItemNetWalker.createNetData(getWorldData(), pipePos, facing);
+            Long2ObjectMap<ItemNetWalker.WalkedPipe> walkedPipes = new Long2ObjectOpenHashMap<>();
+            data = ItemNetWalker.createNetData(getWorldData(), pipePos, facing, walkedPipes);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
             data.sort(Comparator.comparingInt(inv -> inv.properties.getPriority()));
-            NET_DATA.put(pipePos, data);
+            NET_DATA.put(source, data);
+            WALKED_PIPES.put(source, walkedPipes);
         }
         return data;
     }
 
+    /**
+     * Updates the cached inventories after the block at a position changed.
+     * Sources which walked through the position are walked again on their next use.
+     * For every other source, inventories at the position are replaced by the inventories
+     * of the handler now at the position, if there is one.
+     *
+     * @param changedPos the position of the changed block
+     */
+    private void updateInventoriesAt(BlockPos changedPos) {
+        if (NET_DATA.isEmpty()) return;
+        World world = getWorldData();
+        if (world == null || world.getTileEntity(changedPos) instanceof IPipeTile) {
+            // pipes and their covers change the shape and the filters of the net
+            clearNetData();
+            return;
+        }
+        long changedKey = changedPos.toLong();
+        Iterator<Map.Entry<FacingPos, List<Inventory>>> iterator = NET_DATA.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<FacingPos, List<Inventory>> entry = iterator.next();
+            FacingPos source = entry.getKey();
+            Long2ObjectMap<ItemNetWalker.WalkedPipe> walkedPipes = WALKED_PIPES.get(source);
+            if (walkedPipes == null || walkedPipes.containsKey(changedKey)) {
+                iterator.remove();
+                WALKED_PIPES.remove(source);
+                continue;
+            }
+
+            // the cached list may be iterated right now, so a new list is created
+            List<Inventory> oldInventories = entry.getValue();
+            List<Inventory> inventories = new ArrayList<>(oldInventories.size() + 1);
+            for (Inventory inventory : oldInventories) {
+                if (!inventory.getHandlerPos().equals(changedPos)) {
+                    inventories.add(inventory);
+                }
+            }
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                BlockPos pipePos = changedPos.offset(facing);
+                ItemNetWalker.WalkedPipe walkedPipe = walkedPipes.get(pipePos.toLong());
+                if (walkedPipe == null || (facing.getOpposite() == source.getFacing() && pipePos.equals(source.getPos()))) {
+                    continue;
+                }
+                Inventory inventory = ItemNetWalker.createInventory(world, pipePos, facing.getOpposite(), walkedPipe);
+                if (inventory != null) {
+                    int index = inventories.size();
+                    while (index > 0 && inventories.get(index - 1).properties.getPriority() > inventory.properties.getPriority()) {
+                        index--;
+                    }
+                    inventories.add(index, inventory);
+                }
+            }
+            entry.setValue(inventories);
+        }
+    }
+
+    private void clearNetData() {
+        NET_DATA.clear();
+        WALKED_PIPES.clear();
+    }
+
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        updateInventoriesAt(fromPos);
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
-        NET_DATA.clear();
+        clearNetData();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos nodePos, EnumFacing side) {
+        updateInventoriesAt(nodePos.offset(side));
     }
 
     @Override
     protected void transferNodeData(Map<BlockPos, Node<ItemPipeProperties>> transferredNodes, PipeNet<ItemPipeProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
-        NET_DATA.clear();
-        ((ItemPipeNet) parentNet).NET_DATA.clear();
+        clearNetData();
+        ((ItemPipeNet) parentNet).clearNetData();
     }
 
     @Override
@@ -31,6 +31,8 @@ import gregtech.common.MetaEntities;
 import gregtech.common.blocks.BlockWireCoil;
 import gregtech.common.blocks.MetaBlocks;
 import gregtech.common.command.CommandHand;
+import gregtech.common.command.CommandMachines;
+import gregtech.common.command.CommandProfile;
 import gregtech.common.command.CommandRecipeCheck;
 import gregtech.common.command.CommandShaders;
 import gregtech.common.command.worldgen.CommandWorldgen;
@@ -179,6 +181,7 @@ public class CoreModule implements IGregTechModule {
         GregTechAPI.networkHandler.registerPacket(PacketNotifyCapeChange.class);
         GregTechAPI.networkHandler.registerPacket(PacketReloadShaders.class);
         GregTechAPI.networkHandler.registerPacket(PacketClipboardNBTUpdate.class);
+        GregTechAPI.networkHandler.registerPacket(PacketUIWidgetBatchUpdate.class);
     }
 
     @Override
@@ -258,7 +261,14 @@ public class CoreModule implements IGregTechModule {
         GregTechAPI.commandManager.addCommand(new CommandHand());
         GregTechAPI.commandManager.addCommand(new CommandRecipeCheck());
         GregTechAPI.commandManager.addCommand(new CommandShaders());
+        GregTechAPI.commandManager.addCommand(new CommandMachines());
+        GregTechAPI.commandManager.addCommand(new CommandProfile());
         CapesRegistry.load();
+
+        // all recipes, including scripted ones, are loaded by now
+        if (ConfigHolder.misc.freezeRecipeMaps) {
+            RecipeMap.freezeAll();
+        }
     }
 
     @Override
@@ -1,12 +1,14 @@
 package gregtech.core.network.packets;
 
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import lombok.NoArgsConstructor;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 @NoArgsConstructor
@@ -33,13 +35,50 @@ public class PacketProspecting {
         ores = new HashSet<>();
     }
 
+    /**
+     * Reads a packet written by {@link #writePacketData(PacketBuffer)}
+     *
+     * @return the packet, or null if the data is inconsistent
+     */
     public static PacketProspecting readPacketData(PacketBuffer buffer) {
         PacketProspecting packet = new PacketProspecting(buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt());
-        int aSize = 0;
-        if (packet.mode == 0)
-            aSize = 16;
-        else if (packet.mode == 1)
-            aSize = 1;
+        String[] names = new String[buffer.readVarInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = buffer.readString(1000);
+        }
+        int aSize = packet.getMapSize();
+        int checkOut = 0;
+        for (int i = 0; i < aSize; i++)
+            for (int j = 0; j < aSize; j++) {
+                int kSize = buffer.readVarInt();
+                if (kSize == 0) continue;
+                packet.map[i][j] = new HashMap<>();
+                for (int k = 0; k < kSize; k++) {
+                    byte y = buffer.readByte();
+                    int nameIndex = buffer.readVarInt();
+                    if (nameIndex >= names.length) {
+                        return null;
+                    }
+                    String name = names[nameIndex];
+                    packet.map[i][j].put(y, name);
+                    if (packet.mode != 1 || y == 1)
+                        packet.ores.add(name);
+                    checkOut++;
+                }
+            }
+        int checkOut2 = buffer.readVarInt();
+        if (checkOut != checkOut2) {
+            return null;
+        }
+        return packet;
+    }
+
+    /**
+     * Reads a packet saved before names were written to a dictionary, with each name written in full
+     */
+    private static PacketProspecting readLegacyPacketData(PacketBuffer buffer) {
+        PacketProspecting packet = new PacketProspecting(buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt());
+        int aSize = packet.getMapSize();
         int checkOut = 0;
         for (int i = 0; i < aSize; i++)
             for (int j = 0; j < aSize; j++) {
@@ -62,10 +101,12 @@ public class PacketProspecting {
         return packet;
     }
 
-
     public static PacketProspecting readPacketData(NBTTagCompound nbt) {
+        if (nbt.hasKey("data")) {
+            return PacketProspecting.readPacketData(new PacketBuffer(Unpooled.wrappedBuffer(nbt.getByteArray("data"))));
+        }
         if (nbt.hasKey("buffer")) {
-            return PacketProspecting.readPacketData(new PacketBuffer(Unpooled.wrappedBuffer(nbt.getByteArray("buffer"))));
+            return PacketProspecting.readLegacyPacketData(new PacketBuffer(Unpooled.wrappedBuffer(nbt.getByteArray("buffer"))));
         }
         return null;
     }
@@ -74,37 +115,59 @@ public class PacketProspecting {
         NBTTagCompound nbt = new NBTTagCompound();
         PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
         writePacketData(buffer);
-        byte[] bytes = buffer.array();
-        nbt.setByteArray("buffer", bytes);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        nbt.setByteArray("data", bytes);
         return nbt;
     }
 
+    /**
+     * Writes the packet. Each distinct name is written once, and blocks refer to names by their index.
+     */
     public void writePacketData(PacketBuffer buffer) {
         buffer.writeInt(chunkX);
         buffer.writeInt(chunkZ);
         buffer.writeInt(posX);
         buffer.writeInt(posZ);
         buffer.writeInt(mode);
-        int aSize = 0;
-        if (this.mode == 0)
-            aSize = 16;
-        else if (this.mode == 1)
-            aSize = 1;
+        int aSize = getMapSize();
+        Object2IntLinkedOpenHashMap<String> nameIndices = new Object2IntLinkedOpenHashMap<>();
+        for (int i = 0; i < aSize; i++)
+            for (int j = 0; j < aSize; j++) {
+                if (map[i][j] == null) continue;
+                for (String name : map[i][j].values()) {
+                    if (!nameIndices.containsKey(name)) {
+                        nameIndices.put(name, nameIndices.size());
+                    }
+                }
+            }
+        buffer.writeVarInt(nameIndices.size());
+        for (String name : nameIndices.keySet()) {
+            buffer.writeString(name);
+        }
         int checkOut = 0;
         for (int i = 0; i < aSize; i++)
             for (int j = 0; j < aSize; j++) {
                 if (map[i][j] == null)
-                    buffer.writeByte(0);
+                    buffer.writeVarInt(0);
                 else {
-                    buffer.writeByte(map[i][j].keySet().size());
-                    for (byte key : map[i][j].keySet()) {
-                        buffer.writeByte(key);
-                        buffer.writeString(map[i][j].get(key));
+                    buffer.writeVarInt(map[i][j].size());
+                    for (Map.Entry<Byte, String> entry : map[i][j].entrySet()) {
+                        buffer.writeByte(entry.getKey());
+                        buffer.writeVarInt(nameIndices.getInt(entry.getValue()));
                         checkOut++;
                     }
                 }
             }
-        buffer.writeInt(checkOut);
+        buffer.writeVarInt(checkOut);
+    }
+
+    private int getMapSize() {
+        if (this.mode == 0)
+            return 16;
+        else if (this.mode == 1)
+            return 1;
+        return 0;
     }
 
     public void addBlock(int x, int y, int z, String orePrefix) {
@@ -0,0 +1,50 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.gui.impl.ModularUIGui;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+import gregtech.core.network.NetworkUtils;
+import lombok.NoArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiScreen;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Carries all widget updates of a window collected during a tick.
+ * Each update is written as the widget id and the length of the update data as var ints, followed by the data.
+ */
+@NoArgsConstructor
+public class PacketUIWidgetBatchUpdate implements IPacket, IClientExecutor {
+
+    public int windowId;
+    public PacketBuffer updateData;
+
+    public PacketUIWidgetBatchUpdate(int windowId, PacketBuffer updateData) {
+        this.windowId = windowId;
+        this.updateData = updateData;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        NetworkUtils.writePacketBuffer(buf, updateData);
+        buf.writeVarInt(windowId);
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.updateData = NetworkUtils.readPacketBuffer(buf);
+        this.windowId = buf.readVarInt();
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        GuiScreen currentScreen = Minecraft.getMinecraft().currentScreen;
+        if (currentScreen instanceof ModularUIGui) {
+            ((ModularUIGui) currentScreen).handleWidgetBatchUpdate(this);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package gregtech.loaders.recipe;
 
+import gregtech.api.recipes.RecipeMap;
+import gregtech.common.ConfigHolder;
 import gregtech.loaders.recipe.handlers.DecompositionRecipeHandler;
 import gregtech.loaders.recipe.handlers.RecipeHandlerList;
 import gregtech.loaders.recipe.handlers.ToolRecipeHandler;
@@ -11,17 +13,34 @@ public class GTRecipeManager {
     }
 
     public static void load() {
+        startBulkRegistration();
         MachineRecipeLoader.init();
         CraftingRecipeLoader.init();
         MetaTileEntityLoader.init();
         MetaTileEntityMachineRecipeLoader.init();
         RecipeHandlerList.register();
+        finishBulkRegistration();
     }
 
     public static void loadLatest() {
+        startBulkRegistration();
         DecompositionRecipeHandler.runRecipeGeneration();
         RecyclingRecipes.init();
         WoodMachineRecipes.init();
+        finishBulkRegistration();
+    }
+
+    /**
+     * Queues recipes added to RecipeMaps until {@link #finishBulkRegistration()}, if enabled in the config
+     */
+    public static void startBulkRegistration() {
+        if (ConfigHolder.misc.parallelRecipeLoading) {
+            RecipeMap.startBulkRegistration();
+        }
+    }
+
+    public static void finishBulkRegistration() {
+        RecipeMap.finishBulkRegistration();
     }
 
     public static void postLoad() {
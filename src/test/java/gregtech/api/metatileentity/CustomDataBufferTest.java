@@ -0,0 +1,71 @@
+package gregtech.api.metatileentity;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CustomDataBufferTest {
+
+    @Test
+    public void entries_are_read_back_in_order() {
+        CustomDataBuffer buffer = new CustomDataBuffer();
+        buffer.write(1, buf -> buf.writeBoolean(true));
+        buffer.write(300, buf -> buf.writeString("gregtech"));
+        buffer.write(2, buf -> {});
+
+        Int2ObjectMap<String> read = readAll(buffer.poll());
+        assertThat(read.keySet().toIntArray(), is(new int[]{1, 300, 2}));
+        assertThat(read.get(1), is("true"));
+        assertThat(read.get(300), is("gregtech"));
+        assertThat(read.get(2), is(""));
+        assertThat(buffer.isEmpty(), is(true));
+    }
+
+    @Test
+    public void rewriting_replaces_pending_entry() {
+        CustomDataBuffer buffer = new CustomDataBuffer();
+        buffer.write(1, buf -> buf.writeString("old"));
+        buffer.write(2, buf -> buf.writeString("kept"));
+        buffer.write(1, buf -> buf.writeString("new"));
+
+        Int2ObjectMap<String> read = readAll(buffer.poll());
+        assertThat(read.size(), is(2));
+        assertThat(read.get(1), is("new"));
+        assertThat(read.get(2), is("kept"));
+    }
+
+    @Test
+    public void large_entries_keep_their_length() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append('a');
+        }
+        String large = builder.toString();
+        CustomDataBuffer buffer = new CustomDataBuffer();
+        buffer.write(1, buf -> buf.writeString(large));
+        buffer.write(2, buf -> buf.writeString("after"));
+
+        CustomDataBuffer copy = new CustomDataBuffer();
+        copy.addAll(buffer);
+        Int2ObjectMap<String> read = readAll(copy.poll());
+        assertThat(read.get(1), is(large));
+        assertThat(read.get(2), is("after"));
+    }
+
+    private static Int2ObjectMap<String> readAll(byte[] data) {
+        Int2ObjectMap<String> read = new Int2ObjectLinkedOpenHashMap<>();
+        CustomDataBuffer.readAll(data, (discriminator, buf) -> {
+            if (!buf.isReadable()) {
+                read.put(discriminator, "");
+            } else if (buf.readableBytes() == 1) {
+                read.put(discriminator, Boolean.toString(buf.readBoolean()));
+            } else {
+                read.put(discriminator, buf.readString(Short.MAX_VALUE));
+            }
+        });
+        return read;
+    }
+}
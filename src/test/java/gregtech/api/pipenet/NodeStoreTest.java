@@ -0,0 +1,78 @@
+package gregtech.api.pipenet;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NodeStoreTest {
+
+    @Test
+    public void chunkKey_matches_ChunkPos() {
+        BlockPos[] positions = {
+                new BlockPos(0, 0, 0),
+                new BlockPos(15, 255, 15),
+                new BlockPos(-1, 64, -1),
+                new BlockPos(-17, 3, 33),
+                new BlockPos(29_999_999, 100, -29_999_999)
+        };
+        for (BlockPos pos : positions) {
+            ChunkPos chunkPos = new ChunkPos(pos);
+            long expected = ChunkPos.asLong(chunkPos.x, chunkPos.z);
+            assertThat(NodeStore.getChunkKey(pos), is(expected));
+            assertThat(NodeStore.getChunkKey(pos.toLong()), is(expected));
+            assertThat(NodeStore.getChunkX(expected), is(chunkPos.x));
+            assertThat(NodeStore.getChunkZ(expected), is(chunkPos.z));
+        }
+    }
+
+    @Test
+    public void put_and_remove_track_chunks() {
+        NodeStore<Object> store = new NodeStore<>();
+        BlockPos first = new BlockPos(1, 1, 1);
+        BlockPos second = new BlockPos(2, 1, 1);
+
+        assertThat(store.put(first.toLong(), node()), is(true));
+        assertThat(store.put(second.toLong(), node()), is(false));
+        assertThat(store.size(), is(2));
+        assertThat(store.getChunkKeys().size(), is(1));
+
+        store.remove(first.toLong());
+        assertThat(store.containsChunk(NodeStore.getChunkKey(first)), is(true));
+        store.remove(second.toLong());
+        assertThat(store.containsChunk(NodeStore.getChunkKey(first)), is(false));
+        assertThat(store.isEmpty(), is(true));
+    }
+
+    @Test
+    public void addAll_and_removeAll_move_whole_chunks() {
+        NodeStore<Object> store = new NodeStore<>();
+        NodeStore<Object> split = new NodeStore<>();
+        for (int x = 0; x < 32; x++) {
+            Node<Object> node = node();
+            store.put(new BlockPos(x, 0, 0).toLong(), node);
+            if (x >= 12) split.put(new BlockPos(x, 0, 0).toLong(), node);
+        }
+
+        assertThat(store.removeAll(split).size(), is(1));
+        assertThat(store.size(), is(12));
+        assertThat(store.contains(new BlockPos(11, 0, 0)), is(true));
+        assertThat(store.contains(new BlockPos(12, 0, 0)), is(false));
+
+        NodeStore<Object> other = new NodeStore<>();
+        assertThat(other.addAll(split).size(), is(2));
+        assertThat(other.size(), is(20));
+        assertThat(other.asMap().get(new BlockPos(20, 0, 0)), is(notNullValue()));
+        assertThat(other.asMap().entrySet().size(), is(20));
+
+        NodeStore<Object> drained = other.drain();
+        assertThat(other.isEmpty(), is(true));
+        assertThat(drained.size(), is(20));
+    }
+
+    private static Node<Object> node() {
+        return new Node<>(new Object(), 0, Node.DEFAULT_MARK, false);
+    }
+}
@@ -0,0 +1,52 @@
+package gregtech.api.pipenet.tickable;
+
+import gregtech.Bootstrap;
+import gregtech.api.pipenet.PipeNet;
+import gregtech.api.util.world.DummyWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TickableWorldPipeNetEventHandlerTest {
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void pipe_nets_update_once_per_tick() {
+        World world = new DummyWorld();
+        int[] updates = new int[1];
+        TickableWorldPipeNet<?, ?> worldPipeNet = new TickableWorldPipeNet("test_pipe_net") {
+
+            @Override
+            protected int getUpdateRate() {
+                return 1;
+            }
+
+            @Override
+            protected PipeNet createNetInstance() {
+                return null;
+            }
+
+            @Override
+            public void update() {
+                updates[0]++;
+            }
+        };
+        TickableWorldPipeNetEventHandler.registerTickablePipeNet(w -> w == world ? worldPipeNet : null);
+
+        // a server tick fires the event at its start and at its end
+        TickableWorldPipeNetEventHandler.onWorldTick(new TickEvent.WorldTickEvent(Side.SERVER, TickEvent.Phase.START, world));
+        TickableWorldPipeNetEventHandler.onWorldTick(new TickEvent.WorldTickEvent(Side.SERVER, TickEvent.Phase.END, world));
+
+        assertThat(updates[0], is(1));
+    }
+}
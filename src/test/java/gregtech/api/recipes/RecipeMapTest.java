@@ -1,16 +1,24 @@
 package gregtech.api.recipes;
 
 import gregtech.Bootstrap;
+import gregtech.api.capability.impl.FluidTankList;
 import gregtech.api.recipes.builders.SimpleRecipeBuilder;
 import gregtech.api.recipes.map.AbstractMapIngredient;
 import gregtech.api.recipes.map.MapFluidIngredient;
 import gregtech.api.recipes.map.MapItemStackIngredient;
 import gregtech.api.recipes.map.MapOreDictIngredient;
+import gregtech.api.recipes.map.RecipeLookupCache;
+import gregtech.api.recipes.map.RecipeLookupContext;
+import gregtech.api.util.EnumValidationResult;
+import gregtech.api.util.ValidationResult;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.oredict.OreDictionary;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsNot;
@@ -21,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static gregtech.api.unification.material.Materials.*;
 import static org.hamcrest.CoreMatchers.*;
@@ -93,6 +102,44 @@ public class RecipeMapTest {
         MatcherAssert.assertThat(r2, notNullValue());
     }
 
+    @Test
+    public void bulkRegistration() {
+        RecipeMap<SimpleRecipeBuilder> bulkMap = new RecipeMap<>("chemical_reactor_bulk", 0, 2, 0, 2, 0, 3, 0, 2, new SimpleRecipeBuilder().EUt(30), false);
+
+        RecipeMap.startBulkRegistration();
+        for (int i = 0; i < 2; i++) {
+            // the second recipe collides with the first one, and must not be added
+            bulkMap.recipeBuilder()
+                    .notConsumable(new ItemStack(Blocks.COBBLESTONE))
+                    .outputs(new ItemStack(Blocks.STONE))
+                    .EUt(1).duration(1)
+                    .buildAndRegister();
+        }
+        bulkMap.recipeBuilder()
+                .inputs(new ItemStack(Blocks.STONE))
+                .notConsumable(FluidRegistry.WATER)
+                .outputs(new ItemStack(Blocks.STONE))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+
+        // looking up recipes inserts the queued ones first
+        MatcherAssert.assertThat(bulkMap.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(null), 0), notNullValue());
+
+        bulkMap.recipeBuilder()
+                .fluidInputs(Epichlorohydrin.getFluid(144))
+                .fluidInputs(Naphtha.getFluid(3000))
+                .fluidInputs(NitrogenDioxide.getFluid(1000))
+                .fluidOutputs(Epoxy.getFluid(288))
+                .duration(240).EUt(30).buildAndRegister();
+        RecipeMap.finishBulkRegistration();
+
+        MatcherAssert.assertThat(RecipeMap.isBulkRegistration(), is(false));
+        MatcherAssert.assertThat(bulkMap.getRecipeList().size(), is(3));
+        MatcherAssert.assertThat(bulkMap.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.STONE)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)), 0), notNullValue());
+        MatcherAssert.assertThat(bulkMap.findRecipe(30, Collections.singletonList(ItemStack.EMPTY),
+                Arrays.asList(Epichlorohydrin.getFluid(144), Naphtha.getFluid(3000), NitrogenDioxide.getFluid(1000)), 64000), notNullValue());
+    }
+
     // This test fails
     @Test
     public void findRecipeFluidOnly() {
@@ -106,6 +153,165 @@ public class RecipeMapTest {
         MatcherAssert.assertThat(r, notNullValue());
     }
 
+    @Test
+    public void findRecipeWithContext() {
+        RecipeLookupContext context = new RecipeLookupContext();
+
+        Recipe r = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(null), 0, false, context);
+        MatcherAssert.assertThat(r, notNullValue());
+        MatcherAssert.assertThat(r, is(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(null), 0)));
+
+        // the same context must be reusable for a different lookup
+        Recipe r2 = map.findRecipe(30,
+                Collections.singletonList(ItemStack.EMPTY),
+                Arrays.asList(
+                        Epichlorohydrin.getFluid(144),
+                        Naphtha.getFluid(3000),
+                        NitrogenDioxide.getFluid(1000)),
+                64000, false, context);
+        MatcherAssert.assertThat(r2, notNullValue());
+
+        Recipe r3 = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)), Collections.singletonList(null), 0, false, context);
+        MatcherAssert.assertThat(r3, nullValue());
+    }
+
+    @Test
+    public void findRecipeWithContextCallsLegacyOverride() {
+        RecipeMap<SimpleRecipeBuilder> legacyMap = new RecipeMap<SimpleRecipeBuilder>("legacy_find_recipe_test", 0, 1, 0, 1, 0, 0, 0, 0,
+                new SimpleRecipeBuilder(), false) {
+            @Override
+            public Recipe findRecipe(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, int outputFluidTankCapacity, boolean exactVoltage) {
+                // only allows recipes for machines of at least 2 EU/t
+                return voltage < 2 ? null : super.findRecipe(voltage, inputs, fluidInputs, outputFluidTankCapacity, exactVoltage);
+            }
+        };
+        legacyMap.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .outputs(new ItemStack(Blocks.STONE))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+
+        RecipeLookupContext context = new RecipeLookupContext();
+        MatcherAssert.assertThat(legacyMap.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.emptyList(), 0, false, context), nullValue());
+        MatcherAssert.assertThat(legacyMap.findRecipe(2, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.emptyList(), 0, false, context), notNullValue());
+
+        // the legacy override does not report tested candidates, so its failures must not be cached
+        RecipeLookupCache cache = new RecipeLookupCache();
+        ItemStackHandler items = new ItemStackHandler(1);
+        items.setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE));
+        context.setInputs(items, new FluidTankList(false, new FluidTank(16000)));
+        MatcherAssert.assertThat(legacyMap.canCacheLookups(), is(false));
+        MatcherAssert.assertThat(legacyMap.findRecipe(1, context.getItemInputs(), context.getFluidInputs(), 0, false, context), nullValue());
+        cache.recordFailure(legacyMap, 1, context);
+        MatcherAssert.assertThat(cache.isKnownFailure(legacyMap, 1, context), is(false));
+    }
+
+    @Test
+    public void lookupCacheSkipsUnchangedInputs() {
+        RecipeLookupContext context = new RecipeLookupContext();
+        RecipeLookupCache cache = new RecipeLookupCache();
+        ItemStackHandler items = new ItemStackHandler(2);
+        FluidTankList fluids = new FluidTankList(false, new FluidTank(16000));
+
+        items.setStackInSlot(0, new ItemStack(Blocks.DIRT));
+        context.setInputs(items, fluids);
+        MatcherAssert.assertThat(cache.isKnownFailure(map, 30, context), is(false));
+        MatcherAssert.assertThat(map.findRecipe(30, context.getItemInputs(), context.getFluidInputs(), 0, false, context), nullValue());
+        cache.recordFailure(map, 30, context);
+
+        // no recipe was reached, so the amount does not matter
+        items.setStackInSlot(0, new ItemStack(Blocks.DIRT, 2));
+        context.setInputs(items, fluids);
+        MatcherAssert.assertThat(cache.isKnownFailure(map, 30, context), is(true));
+
+        // other voltages and other compositions must be searched again
+        MatcherAssert.assertThat(cache.isKnownFailure(map, 120, context), is(false));
+        items.setStackInSlot(1, new ItemStack(Blocks.STONE));
+        context.setInputs(items, fluids);
+        MatcherAssert.assertThat(cache.isKnownFailure(map, 30, context), is(false));
+
+        // adding a recipe forgets the failure
+        items.setStackInSlot(1, ItemStack.EMPTY);
+        context.setInputs(items, fluids);
+        MatcherAssert.assertThat(cache.isKnownFailure(map, 30, context), is(true));
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.DIRT))
+                .outputs(new ItemStack(Blocks.STONE))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+        MatcherAssert.assertThat(cache.isKnownFailure(map, 30, context), is(false));
+
+        MatcherAssert.assertThat(cache.getHits(), is(2L));
+        MatcherAssert.assertThat(cache.getMisses(), is(4L));
+    }
+
+    @Test
+    public void findRecipeFrozen() {
+        RecipeLookupContext context = new RecipeLookupContext();
+        map.freeze();
+        MatcherAssert.assertThat(map.isFrozen(), is(true));
+
+        Recipe r = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.singletonList(null), 0, false, context);
+        MatcherAssert.assertThat(r, notNullValue());
+
+        Recipe r2 = map.findRecipe(30,
+                Collections.singletonList(ItemStack.EMPTY),
+                Arrays.asList(
+                        Epichlorohydrin.getFluid(144),
+                        Naphtha.getFluid(3000),
+                        NitrogenDioxide.getFluid(1000)),
+                64000, false, context);
+        MatcherAssert.assertThat(r2, notNullValue());
+
+        MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.DIRT)), Collections.singletonList(null), 0, false, context), nullValue());
+
+        // removing a recipe falls back to the regular lookup
+        assert map.removeRecipe(r2);
+        MatcherAssert.assertThat(map.isFrozen(), is(false));
+        MatcherAssert.assertThat(map.findRecipe(30,
+                Collections.singletonList(ItemStack.EMPTY),
+                Arrays.asList(
+                        Epichlorohydrin.getFluid(144),
+                        Naphtha.getFluid(3000),
+                        NitrogenDioxide.getFluid(1000)),
+                64000, false, context), nullValue());
+    }
+
+    @Test
+    public void findRecipeSingleFluidIndex() {
+        RecipeMap<SimpleRecipeBuilder> fuelMap = new RecipeMap<>("single_fluid_test", 0, 0, 0, 0, 1, 1, 0, 0,
+                new SimpleRecipeBuilder(), false);
+        Recipe naphtha = fuelMap.recipeBuilder()
+                .fluidInputs(Naphtha.getFluid(100))
+                .duration(10).EUt(32).build().getResult();
+        fuelMap.addRecipe(ValidationResult.newResult(EnumValidationResult.VALID, naphtha));
+        Recipe epichlorohydrin = fuelMap.recipeBuilder()
+                .fluidInputs(Epichlorohydrin.getFluid(10))
+                .duration(10).EUt(32).build().getResult();
+        fuelMap.addRecipe(ValidationResult.newResult(EnumValidationResult.VALID, epichlorohydrin));
+        fuelMap.freeze();
+
+        RecipeLookupContext context = new RecipeLookupContext();
+        MatcherAssert.assertThat(fuelMap.findRecipe(32, Collections.emptyList(), Collections.singletonList(Naphtha.getFluid(100)), 0), sameInstance(naphtha));
+        MatcherAssert.assertThat(fuelMap.findRecipe(32, Collections.emptyList(), Collections.singletonList(Naphtha.getFluid(50)), 0), nullValue());
+        MatcherAssert.assertThat(fuelMap.findRecipe(32, Collections.emptyList(),
+                Arrays.asList(null, Water.getFluid(1000), Epichlorohydrin.getFluid(10)), 0, false, context), sameInstance(epichlorohydrin));
+
+        // fluids with nbt are looked up in the tree
+        FluidStack taggedNaphtha = Naphtha.getFluid(100);
+        taggedNaphtha.tag = new NBTTagCompound();
+        taggedNaphtha.tag.setBoolean("test", true);
+        MatcherAssert.assertThat(fuelMap.find(Collections.emptyList(), Collections.singletonList(taggedNaphtha), r -> true), nullValue());
+
+        // adding a recipe discards the index
+        Recipe nitrogenDioxide = fuelMap.recipeBuilder()
+                .fluidInputs(NitrogenDioxide.getFluid(1))
+                .duration(10).EUt(32).build().getResult();
+        fuelMap.addRecipe(ValidationResult.newResult(EnumValidationResult.VALID, nitrogenDioxide));
+        MatcherAssert.assertThat(fuelMap.find(Collections.emptyList(), Collections.singletonList(NitrogenDioxide.getFluid(1)), r -> true), sameInstance(nitrogenDioxide));
+        MatcherAssert.assertThat(fuelMap.find(Collections.emptyList(), Collections.singletonList(Naphtha.getFluid(100)), r -> true), sameInstance(naphtha));
+    }
+
     @Test
     public void removeRecipe() {
         Recipe r = map.findRecipe(30,
@@ -0,0 +1,67 @@
+package gregtech.api.recipes.logic;
+
+import gregtech.Bootstrap;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMaps;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MultipliedRecipeCacheTest {
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    private static Recipe createRecipe() {
+        return RecipeMaps.MACERATOR_RECIPES.recipeBuilder()
+                .input(Blocks.STONE)
+                .output(Items.CARROT)
+                .build().getResult();
+    }
+
+    @Test
+    public void entries_are_matched_by_the_whole_key() {
+        MultipliedRecipeCache cache = new MultipliedRecipeCache();
+        Recipe base = createRecipe();
+        Recipe multiplied = createRecipe();
+        cache.put(RecipeMaps.MACERATOR_RECIPES, base, 4, 16, multiplied);
+
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 4, 16), is(sameInstance(multiplied)));
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 3, 16), is(nullValue()));
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 4, 8), is(nullValue()));
+        assertThat(cache.get(RecipeMaps.COMPRESSOR_RECIPES, base, 4, 16), is(nullValue()));
+        // equal recipes are not the same recipe
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, createRecipe(), 4, 16), is(nullValue()));
+
+        cache.invalidate();
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 4, 16), is(nullValue()));
+    }
+
+    @Test
+    public void least_recently_used_entry_is_replaced() {
+        MultipliedRecipeCache cache = new MultipliedRecipeCache();
+        Recipe base = createRecipe();
+        Recipe[] multiplied = new Recipe[5];
+        for (int i = 0; i < 4; i++) {
+            multiplied[i] = createRecipe();
+            cache.put(RecipeMaps.MACERATOR_RECIPES, base, i + 1, 16, multiplied[i]);
+        }
+        // use the oldest entry, so the second oldest is replaced instead
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 1, 16), is(sameInstance(multiplied[0])));
+
+        multiplied[4] = createRecipe();
+        cache.put(RecipeMaps.MACERATOR_RECIPES, base, 5, 16, multiplied[4]);
+
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 2, 16), is(nullValue()));
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 1, 16), is(sameInstance(multiplied[0])));
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 3, 16), is(sameInstance(multiplied[2])));
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 4, 16), is(sameInstance(multiplied[3])));
+        assertThat(cache.get(RecipeMaps.MACERATOR_RECIPES, base, 5, 16), is(sameInstance(multiplied[4])));
+    }
+}
@@ -386,6 +386,42 @@ public class ParallelLogicTest {
 
     }
 
+    @Test
+    public void limitParallelByItems_OutputsSharingEmptySlotsTest() {
+
+        int parallelLimit = 4;
+
+        // Create a recipe Map to be used for testing
+        RecipeMap<BlastRecipeBuilder> map = new RecipeMap<>("electric_blast_furnace",
+                1,
+                3,
+                1,
+                2,
+                0,
+                1,
+                0,
+                1,
+                new BlastRecipeBuilder(),
+                false);
+
+        // Create a simple recipe to be used for testing
+        Recipe recipe = map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.COBBLESTONE))
+                .fluidInputs(Materials.Acetone.getFluid(100))
+                .outputs(new ItemStack(Blocks.STONE, 32), new ItemStack(Blocks.GRAVEL, 32))
+                .blastFurnaceTemp(1000)
+                .EUt(30).duration(100)
+                .build().getResult();
+
+        // Each output alone fits 6 times into the 3 empty slots, but both outputs together only fit twice
+        exportItemBus.getExportItems().insertItem(0, new ItemStack(Blocks.BONE_BLOCK), false);
+
+        int itemRatio = ParallelLogic.limitParallelByItems(recipe, new OverlayedItemHandler(exportItemBus.getExportItems()), parallelLimit);
+
+        assertThat(itemRatio, is(2));
+
+    }
+
     @Test
     public void limitParallelByFluids_MaxParallelTest() {
 
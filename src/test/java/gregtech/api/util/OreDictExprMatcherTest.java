@@ -0,0 +1,48 @@
+package gregtech.api.util;
+
+import gregtech.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class OreDictExprMatcherTest {
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void matchers_are_shared_per_expression() {
+        assertThat(OreDictExprMatcher.get("ingot* & !ingotIron"), is(sameInstance(OreDictExprMatcher.get("ingot* & !ingotIron"))));
+        assertThat(OreDictExprMatcher.get("ingot*"), is(not(sameInstance(OreDictExprMatcher.get("dust*")))));
+    }
+
+    @Test
+    public void matches_agree_with_interpreted_rules() {
+        String expression = "plate* | (ingot* & !*Iron)";
+        OreDictExprMatcher matcher = OreDictExprMatcher.get(expression);
+        String[] names = {"plateIron", "ingotIron", "ingotCopper", "dustCopper", "ingot"};
+        for (String name : names) {
+            int id = OreDictionary.getOreID(name);
+            assertThat(name, matcher.matches(id), is(OreDictExprFilter.matches(OreDictExprFilter.parseExpression(expression), name)));
+        }
+    }
+
+    @Test
+    public void ore_names_registered_later_are_matched() {
+        OreDictExprMatcher matcher = OreDictExprMatcher.get("exprMatcherTest*");
+        ItemStack stack = new ItemStack(Items.FEATHER);
+        assertThat(matcher.matches(stack), is(false));
+
+        OreDictionary.registerOre("exprMatcherTestFeather", stack);
+        assertThat(matcher.matches(stack), is(true));
+        assertThat(matcher.matches(new ItemStack(Items.STRING)), is(false));
+        assertThat(OreDictExprMatcher.get("").matches(stack), is(false));
+    }
+}
@@ -0,0 +1,59 @@
+package gregtech.common.metatileentities.storage;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.capability.GregtechTileCapabilities;
+import gregtech.api.capability.IBulkItemStorage;
+import gregtech.api.cover.CoverBehavior;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.common.covers.CoverItemFilter;
+import gregtech.common.covers.filter.SimpleItemFilter;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.capabilities.Capability;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MetaTileEntityQuantumChestTest {
+
+    private static Capability<IBulkItemStorage> previousCapability;
+
+    /**
+     * Capabilities are not injected outside of the game, so the bulk storage capability is created here
+     */
+    @BeforeAll
+    @SuppressWarnings("unchecked")
+    public static void bootstrap() throws ReflectiveOperationException {
+        Bootstrap.perform();
+        previousCapability = GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE;
+        Constructor<Capability> constructor = Capability.class.getDeclaredConstructor(String.class, Capability.IStorage.class, Callable.class);
+        constructor.setAccessible(true);
+        GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE = constructor.newInstance(IBulkItemStorage.class.getName(), null, null);
+    }
+
+    @AfterAll
+    public static void restoreCapability() {
+        GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE = previousCapability;
+    }
+
+    @Test
+    public void covers_hide_the_bulk_storage_of_their_side() throws ReflectiveOperationException {
+        MetaTileEntityQuantumChest chest = new MetaTileEntityQuantumChest(new ResourceLocation(GTValues.MODID, "quantum_chest.test"), 5, 1000L);
+        CoverItemFilter filter = new CoverItemFilter(chest, EnumFacing.NORTH, "cover.item_filter.title", null, new SimpleItemFilter());
+        Field coverBehaviors = MetaTileEntity.class.getDeclaredField("coverBehaviors");
+        coverBehaviors.setAccessible(true);
+        ((CoverBehavior[]) coverBehaviors.get(chest))[EnumFacing.NORTH.getIndex()] = filter;
+
+        // a filtered chest must not accept items through bulk transfer, which would bypass the filter
+        assertThat(chest.getCoverCapability(GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE, EnumFacing.NORTH), is(nullValue()));
+        assertThat(chest.getCoverCapability(GregtechTileCapabilities.CAPABILITY_BULK_ITEM_STORAGE, EnumFacing.SOUTH), is(notNullValue()));
+    }
+}
@@ -0,0 +1,57 @@
+package gregtech.core.network.packets;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PacketProspectingTest {
+
+    @Test
+    public void ores_survive_a_round_trip() {
+        PacketProspecting packet = new PacketProspecting(3, -4, 50, -60, 0);
+        packet.addBlock(0, 12, 0, "oreIron");
+        packet.addBlock(0, 13, 0, "oreCopper");
+        packet.addBlock(15, 12, 7, "oreIron");
+
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        packet.writePacketData(buffer);
+        PacketProspecting read = PacketProspecting.readPacketData(buffer);
+
+        assertThat(read, is(notNullValue()));
+        assertThat(read.chunkX, is(3));
+        assertThat(read.chunkZ, is(-4));
+        assertThat(read.map[0][0], is(packet.map[0][0]));
+        assertThat(read.map[15][7], is(packet.map[15][7]));
+        assertThat(read.map[1][1], is(nullValue()));
+        assertThat(read.ores, is(packet.ores));
+    }
+
+    @Test
+    public void legacy_saved_packets_are_read() {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        buffer.writeInt(1);
+        buffer.writeInt(2);
+        buffer.writeInt(20);
+        buffer.writeInt(30);
+        buffer.writeInt(1);
+        buffer.writeByte(1);
+        buffer.writeByte(1);
+        buffer.writeString("water");
+        buffer.writeInt(1);
+        NBTTagCompound nbt = new NBTTagCompound();
+        nbt.setByteArray("buffer", buffer.array());
+
+        PacketProspecting read = PacketProspecting.readPacketData(nbt);
+        assertThat(read, is(notNullValue()));
+        assertThat(read.map[0][0].get((byte) 1), is("water"));
+        assertThat(read.ores.contains("water"), is(true));
+
+        PacketProspecting resaved = PacketProspecting.readPacketData(read.writePacketData());
+        assertThat(resaved, is(notNullValue()));
+        assertThat(resaved.map[0][0], is(read.map[0][0]));
+    }
+}